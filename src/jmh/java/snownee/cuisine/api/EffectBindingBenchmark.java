@@ -0,0 +1,84 @@
+package snownee.cuisine.api;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.item.ItemStack;
+import snownee.cuisine.api.CompositeFood.EffectBinding;
+import snownee.cuisine.api.CompositeFood.EffectPlan;
+import snownee.cuisine.api.prefab.DefaultConsumedCollector;
+import snownee.cuisine.benchmark.StubRegistries;
+
+/**
+ * Effect collection done every time a composite food is eaten. Lives in the
+ * API package since {@link CompositeFood#getEffectBindings()} is protected
+ * and {@link EffectPlan}'s constructor is package-private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectBindingBenchmark
+{
+    @Param({ "4", "16" })
+    public int ingredients;
+
+    private CompositeFood food;
+
+    @Setup
+    public void setup()
+    {
+        StubRegistries.init();
+        food = StubRegistries.dish(new Random(42), ingredients);
+    }
+
+    /**
+     * Reads the plan cached by the food, which is what every serve but the
+     * first one costs.
+     */
+    @Benchmark
+    public Collection<EffectBinding> getEffectBindings()
+    {
+        return food.getEffectBindings();
+    }
+
+    /**
+     * Builds the plan from scratch, which is what the first serve of each
+     * food, or of each copy deserialized from an item, costs.
+     */
+    @Benchmark
+    public EffectPlan buildEffectPlan()
+    {
+        return new EffectPlan(food.getIngredients(), food.getEffects());
+    }
+
+    /**
+     * The part of {@link CompositeFood#onEaten} that does not need a player:
+     * binding effects and letting each of them fill the collector.
+     */
+    @Benchmark
+    public DefaultConsumedCollector collectEffects()
+    {
+        DefaultConsumedCollector collector = new DefaultConsumedCollector(food.getFoodLevel());
+        for (EffectBinding binding : food.getEffectBindings())
+        {
+            binding.effect.onEaten(ItemStack.EMPTY, null, food, binding.ingredients, collector);
+        }
+        return collector;
+    }
+}
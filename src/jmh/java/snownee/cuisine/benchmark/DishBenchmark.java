@@ -0,0 +1,77 @@
+package snownee.cuisine.benchmark;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.nbt.NBTTagCompound;
+import snownee.cuisine.api.CookingVessel;
+import snownee.cuisine.internal.food.Dish;
+
+/**
+ * Building a dish out of a wok's builder, and the NBT round trip of a
+ * finished dish.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DishBenchmark
+{
+    private static final CookingVessel VESSEL = Optional::empty;
+
+    @Param({ "4", "16" })
+    public int ingredients;
+
+    private Dish dish;
+    private NBTTagCompound dishData;
+
+    @Setup
+    public void setup()
+    {
+        StubRegistries.init();
+        dish = StubRegistries.dish(new Random(42), ingredients);
+        dishData = Dish.serialize(dish);
+    }
+
+    /**
+     * Baseline for {@link #build()}, since a builder can only be consumed once.
+     */
+    @Benchmark
+    public Dish.Builder builderFromNBT()
+    {
+        return Dish.Builder.fromNBT(dishData);
+    }
+
+    @Benchmark
+    public Optional<Dish> build()
+    {
+        return Dish.Builder.fromNBT(dishData).build(VESSEL, null);
+    }
+
+    @Benchmark
+    public NBTTagCompound serialize()
+    {
+        return Dish.serialize(dish);
+    }
+
+    @Benchmark
+    public Dish deserialize()
+    {
+        return Dish.deserialize(dishData);
+    }
+}
@@ -0,0 +1,80 @@
+package snownee.cuisine.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.nbt.NBTTagCompound;
+import snownee.cuisine.api.Ingredient;
+import snownee.cuisine.internal.CuisinePersistenceCenter;
+
+/**
+ * Ingredient NBT round trips through {@link CuisinePersistenceCenter}. The
+ * number of distinct ingredients decides how often the decoder may reuse an
+ * earlier result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IngredientPersistenceBenchmark
+{
+    @Param({ "16", "4096" })
+    public int distinct;
+
+    private Ingredient[] ingredients;
+    private NBTTagCompound[] data;
+    private int cursor;
+
+    @Setup
+    public void setup()
+    {
+        StubRegistries.init();
+        Random rand = new Random(42);
+        ingredients = new Ingredient[distinct];
+        data = new NBTTagCompound[distinct];
+        for (int i = 0; i < distinct; i++)
+        {
+            ingredients[i] = StubRegistries.ingredient(rand);
+            data[i] = CuisinePersistenceCenter.serialize(ingredients[i]);
+        }
+    }
+
+    private int next()
+    {
+        int i = cursor;
+        cursor = i + 1 == distinct ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public NBTTagCompound serialize()
+    {
+        return CuisinePersistenceCenter.serialize(ingredients[next()]);
+    }
+
+    @Benchmark
+    public Ingredient deserialize()
+    {
+        return CuisinePersistenceCenter.deserializeIngredient(data[next()]);
+    }
+
+    @Benchmark
+    public Ingredient roundTrip()
+    {
+        return CuisinePersistenceCenter.deserializeIngredient(CuisinePersistenceCenter.serialize(ingredients[next()]));
+    }
+}
@@ -0,0 +1,221 @@
+package snownee.cuisine.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import snownee.cuisine.Cuisine;
+import snownee.cuisine.api.process.BasinInteracting;
+import snownee.cuisine.api.process.Boiling;
+import snownee.cuisine.api.process.Chopping;
+import snownee.cuisine.api.process.CuisineProcessingRecipeManager;
+import snownee.cuisine.api.process.Grinding;
+import snownee.cuisine.api.process.Milling;
+import snownee.cuisine.api.process.Vessel;
+import snownee.cuisine.api.process.prefab.DistillationBoiling;
+import snownee.cuisine.api.process.prefab.ProcessingIndexers;
+import snownee.cuisine.api.process.prefab.SimpleSqueezing;
+import snownee.cuisine.api.process.prefab.SimpleThrowing;
+import snownee.kiwi.util.definition.ItemDefinition;
+
+/**
+ * Recipe lookup on each kind of processing manager, comparing the plain
+ * managers with the indexed ones used by
+ * {@link snownee.cuisine.api.process.Processing}. Every recipe takes a stick
+ * of distinct metadata, the input looked up matches the last recipe added.
+ * Boiling recipes are keyed by fluid instead, so each of them takes a
+ * synthetic fluid of its own.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessingBenchmark
+{
+    @Param({ "10", "100", "1000" })
+    public int recipes;
+
+    @Param({ "true", "false" })
+    public boolean indexed;
+
+    private CuisineProcessingRecipeManager<Chopping> chopping;
+    private CuisineProcessingRecipeManager<Milling> milling;
+    private CuisineProcessingRecipeManager<Grinding> grinding;
+    private CuisineProcessingRecipeManager<Vessel> vessel;
+    private CuisineProcessingRecipeManager<BasinInteracting> squeezing;
+    private CuisineProcessingRecipeManager<BasinInteracting> throwing;
+    private CuisineProcessingRecipeManager<Boiling> boiling;
+
+    private ItemStack hit;
+    private ItemStack miss;
+    private FluidStack water;
+    private FluidStack boilingInput;
+
+    @Setup
+    public void setup()
+    {
+        StubRegistries.init();
+        chopping = indexed ? CuisineProcessingRecipeManager.of(Chopping::descendingCompare, ProcessingIndexers.CHOPPING) : CuisineProcessingRecipeManager.of(Chopping::descendingCompare);
+        milling = indexed ? CuisineProcessingRecipeManager.of(ProcessingIndexers.MILLING) : CuisineProcessingRecipeManager.of();
+        grinding = indexed ? CuisineProcessingRecipeManager.of(Grinding::descendingCompare, ProcessingIndexers.GRINDING) : CuisineProcessingRecipeManager.of(Grinding::descendingCompare);
+        vessel = indexed ? CuisineProcessingRecipeManager.of(ProcessingIndexers.VESSEL) : CuisineProcessingRecipeManager.of();
+        squeezing = indexed ? CuisineProcessingRecipeManager.of(BasinInteracting::descendingCompare, ProcessingIndexers.BASIN) : CuisineProcessingRecipeManager.of(BasinInteracting::descendingCompare);
+        throwing = indexed ? CuisineProcessingRecipeManager.of(BasinInteracting::descendingCompare, ProcessingIndexers.BASIN) : CuisineProcessingRecipeManager.of(BasinInteracting::descendingCompare);
+        boiling = indexed ? CuisineProcessingRecipeManager.of(ProcessingIndexers.BOILING) : CuisineProcessingRecipeManager.of();
+
+        ItemStack output = new ItemStack(Items.BREAD);
+        for (int i = 0; i < recipes; i++)
+        {
+            ItemDefinition input = ItemDefinition.of(Items.STICK, i);
+            chopping.add(new Chopping(id("chopping", i), input, output));
+            milling.add(new Milling(id("milling", i), input, output));
+            grinding.add(new Grinding(id("grinding", i), Collections.singletonList(input), output, 1));
+            vessel.add(new Vessel(id("vessel", i), input, FluidRegistry.WATER, ItemDefinition.of(Items.BREAD), null));
+            squeezing.add(new SimpleSqueezing(id("squeezing", i), input, new FluidStack(FluidRegistry.WATER, 100)));
+            throwing.add(new SimpleThrowing(id("throwing", i), input, new FluidStack(FluidRegistry.WATER, 100), output));
+            boiling.add(new DistillationBoiling(id("boiling", i), new FluidStack(fluid(i), 200), output, 1));
+        }
+        hit = new ItemStack(Items.STICK, 1, recipes - 1);
+        miss = new ItemStack(Items.APPLE);
+        water = new FluidStack(FluidRegistry.WATER, 1000);
+        boilingInput = new FluidStack(fluid(recipes - 1), 1000);
+        // Force the indexed managers to build their index outside of measurement
+        chopping.findRecipe(hit);
+        milling.findRecipe(hit, null);
+        grinding.findRecipe(hit);
+        vessel.findRecipe(water, hit);
+        squeezing.findRecipe(hit, null);
+        throwing.findRecipe(hit, water);
+        boiling.findRecipe(ItemStack.EMPTY, boilingInput, 2);
+    }
+
+    /**
+     * Fluids are global, so the ones of earlier runs with fewer recipes are reused.
+     */
+    private static Fluid fluid(int index)
+    {
+        String name = "bench_fluid_" + index;
+        Fluid fluid = FluidRegistry.getFluid(name);
+        if (fluid == null)
+        {
+            fluid = new Fluid(name, new ResourceLocation("blocks/water_still"), new ResourceLocation("blocks/water_flow"));
+            FluidRegistry.registerFluid(fluid);
+        }
+        return fluid;
+    }
+
+    private static ResourceLocation id(String type, int index)
+    {
+        return new ResourceLocation(Cuisine.MODID, "bench_" + type + "_" + index);
+    }
+
+    @Benchmark
+    public Chopping choppingHit()
+    {
+        return chopping.findRecipe(hit);
+    }
+
+    @Benchmark
+    public Chopping choppingMiss()
+    {
+        return chopping.findRecipe(miss);
+    }
+
+    @Benchmark
+    public Milling millingHit()
+    {
+        return milling.findRecipe(hit, null);
+    }
+
+    @Benchmark
+    public Milling millingMiss()
+    {
+        return milling.findRecipe(miss, null);
+    }
+
+    @Benchmark
+    public boolean millingAcceptsMiss()
+    {
+        for (Milling recipe : milling.findCandidates(miss, null))
+        {
+            if (recipe.getInput().matches(miss))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public Grinding grindingHit()
+    {
+        return grinding.findRecipe(hit);
+    }
+
+    @Benchmark
+    public Vessel vesselHit()
+    {
+        return vessel.findRecipe(water, hit);
+    }
+
+    @Benchmark
+    public Vessel vesselMiss()
+    {
+        return vessel.findRecipe(water, miss);
+    }
+
+    @Benchmark
+    public BasinInteracting squeezingHit()
+    {
+        return squeezing.findRecipe(hit, null);
+    }
+
+    @Benchmark
+    public BasinInteracting squeezingMiss()
+    {
+        return squeezing.findRecipe(miss, null);
+    }
+
+    @Benchmark
+    public BasinInteracting throwingHit()
+    {
+        return throwing.findRecipe(hit, water);
+    }
+
+    @Benchmark
+    public BasinInteracting throwingMiss()
+    {
+        return throwing.findRecipe(miss, water);
+    }
+
+    @Benchmark
+    public Boiling boilingHit()
+    {
+        return boiling.findRecipe(ItemStack.EMPTY, boilingInput, 2);
+    }
+
+    @Benchmark
+    public Boiling boilingMiss()
+    {
+        return boiling.findRecipe(ItemStack.EMPTY, water, 2);
+    }
+}
@@ -0,0 +1,136 @@
+package snownee.cuisine.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.init.Bootstrap;
+import snownee.cuisine.api.CulinaryHub;
+import snownee.cuisine.api.Effect;
+import snownee.cuisine.api.Form;
+import snownee.cuisine.api.Ingredient;
+import snownee.cuisine.api.Material;
+import snownee.cuisine.api.MaterialCategory;
+import snownee.cuisine.api.Seasoning;
+import snownee.cuisine.api.Spice;
+import snownee.cuisine.api.prefab.SimpleEffectImpl;
+import snownee.cuisine.api.prefab.SimpleMaterialImpl;
+import snownee.cuisine.api.prefab.SimpleSpiceImpl;
+import snownee.cuisine.internal.CuisineInternalGateway;
+import snownee.cuisine.internal.food.Dish;
+
+/**
+ * Headless stand-in for the registries that are normally filled during mod
+ * loading. Only vanilla bootstrap is performed; every material, spice and
+ * effect is a synthetic one, so that benchmarks do not depend on game content.
+ *
+ * 基准测试用的 API 实例，只包含合成的食材、调料与效果。
+ */
+public final class StubRegistries
+{
+    public static final int MATERIALS = 64;
+    public static final int SPICES = 16;
+    public static final int EFFECTS = 32;
+
+    private static boolean initialized;
+
+    private StubRegistries()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    public static synchronized void init()
+    {
+        if (initialized)
+        {
+            return;
+        }
+        initialized = true;
+
+        Bootstrap.register();
+
+        CuisineInternalGateway api;
+        try
+        {
+            Constructor<CuisineInternalGateway> constructor = CuisineInternalGateway.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            api = constructor.newInstance();
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new IllegalStateException("Cannot create API instance", e);
+        }
+        CulinaryHub.API_INSTANCE = CuisineInternalGateway.INSTANCE = api;
+
+        for (int i = 0; i < EFFECTS; i++)
+        {
+            api.register(new SimpleEffectImpl("bench_effect_" + i, 0xFFFFFF));
+        }
+        for (int i = 0; i < MATERIALS; i++)
+        {
+            // Dish model type resolution stops at the first fish, without touching CommonMaterials
+            MaterialCategory category = i == 0 ? MaterialCategory.FISH : MaterialCategory.VEGETABLES;
+            api.register(new SimpleMaterialImpl("bench_material_" + i, 0x00FF00, 0x008800, 10, 10, 10, 0.6F, category).setValidForms(EnumSet.allOf(Form.class)));
+        }
+        for (int i = 0; i < SPICES; i++)
+        {
+            api.register(new SimpleSpiceImpl("bench_spice_" + i, 0xFF0000, i % 4 == 0));
+        }
+    }
+
+    public static Material material(int index)
+    {
+        return CulinaryHub.API_INSTANCE.findMaterial("bench_material_" + index % MATERIALS);
+    }
+
+    public static Spice spice(int index)
+    {
+        return CulinaryHub.API_INSTANCE.findSpice("bench_spice_" + index % SPICES);
+    }
+
+    public static Effect effect(int index)
+    {
+        return CulinaryHub.API_INSTANCE.findEffect("bench_effect_" + index % EFFECTS);
+    }
+
+    /**
+     * A random ingredient with some doneness and one or two effects attached.
+     */
+    public static Ingredient ingredient(Random rand)
+    {
+        Form[] forms = Form.values();
+        Ingredient ingredient = new Ingredient(material(rand.nextInt(MATERIALS)), forms[rand.nextInt(forms.length)]);
+        ingredient.setDoneness(rand.nextInt(120));
+        ingredient.addEffect(effect(rand.nextInt(EFFECTS)));
+        if (rand.nextBoolean())
+        {
+            ingredient.addEffect(effect(rand.nextInt(EFFECTS)));
+        }
+        return ingredient;
+    }
+
+    /**
+     * A dish with given number of ingredients, half as many seasonings, and
+     * two dish-wide effects. Always starts with the fish material.
+     */
+    public static Dish dish(Random rand, int ingredientCount)
+    {
+        List<Ingredient> ingredients = new ArrayList<>(ingredientCount);
+        ingredients.add(new Ingredient(material(0), Form.SLICED));
+        for (int i = 1; i < ingredientCount; i++)
+        {
+            ingredients.add(ingredient(rand));
+        }
+        List<Seasoning> seasonings = new ArrayList<>();
+        for (int i = 0; i < ingredientCount / 2; i++)
+        {
+            seasonings.add(new Seasoning(spice(rand.nextInt(SPICES)), 1 + rand.nextInt(3)));
+        }
+        List<Effect> effects = new ArrayList<>();
+        effects.add(effect(rand.nextInt(EFFECTS)));
+        effects.add(effect(rand.nextInt(EFFECTS)));
+        return new Dish(ingredients, seasonings, effects, 8, 0.6F);
+    }
+}
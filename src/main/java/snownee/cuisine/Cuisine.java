@@ -33,8 +33,14 @@ import snownee.cuisine.items.BehaviorWokInteraction;
 import snownee.cuisine.items.ItemCrops;
 import snownee.cuisine.network.CuisineGuiHandler;
 import snownee.cuisine.network.PacketCustomEvent;
+import snownee.cuisine.network.PacketFoodDetails;
+import snownee.cuisine.network.PacketFoodDetailsRequest;
+import snownee.cuisine.network.PacketFoodIdTable;
 import snownee.cuisine.network.PacketNameFood;
 import snownee.cuisine.network.PacketSkillLevelIncreased;
+import snownee.cuisine.tiles.FuelHeatHandler;
+import snownee.cuisine.tiles.SmeltingResultCache;
+import snownee.cuisine.world.gen.BiomeEligibility;
 import snownee.cuisine.world.gen.WorldGenBamboo;
 import snownee.cuisine.world.gen.WorldGenCitrusTrees;
 import snownee.cuisine.world.gen.WorldGenGarden;
@@ -114,6 +120,9 @@ public class Cuisine
         NetworkChannel.INSTANCE.register(PacketCustomEvent.class);
         NetworkChannel.INSTANCE.register(PacketSkillLevelIncreased.class);
         NetworkChannel.INSTANCE.register(PacketNameFood.class);
+        NetworkChannel.INSTANCE.register(PacketFoodIdTable.class);
+        NetworkChannel.INSTANCE.register(PacketFoodDetailsRequest.class);
+        NetworkChannel.INSTANCE.register(PacketFoodDetails.class);
         if (CuisineConfig.GENERAL.basicSeedsWeight > 0)
         {
             MinecraftForge.addGrassSeed(CuisineRegistry.CROPS.getItemStack(ItemCrops.Variant.SESAME), CuisineConfig.GENERAL.basicSeedsWeight);
@@ -172,5 +181,8 @@ public class Cuisine
     public void serverStarting(FMLServerStartingEvent e)
     {
         CommandRegistry.registryCommands(e);
+        FuelHeatHandler.invalidateFuelTable();
+        SmeltingResultCache.invalidate();
+        BiomeEligibility.invalidate();
     }
 }
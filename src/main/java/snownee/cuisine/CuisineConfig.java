@@ -7,6 +7,7 @@ import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import snownee.cuisine.client.model.ChoppingBoardModel;
+import snownee.cuisine.internal.CompactFoodCodec;
 import snownee.cuisine.plugins.jei.JEICompat;
 
 @Config(modid = Cuisine.MODID, name = Cuisine.MODID, category = "")
@@ -149,6 +150,14 @@ public final class CuisineConfig
 
         @Config.Name("RareCrops")
         public boolean rareCrops = true;
+
+        @Config.Comment("If true, updates of cooking devices are only sent to players that are watching them, instead of the whole dimension.")
+        @Config.Name("TrackingRangeSync")
+        public boolean trackingRangeSync = true;
+
+        @Config.Comment("How dishes and drinks in inventories are synced to clients. FULL sends the same data as saved ones; COMPACT sends the same content with registry names replaced by numeric IDs; MINIMAL sends only what is needed for rendering and the brief tooltip, and the rest are sent when the detailed tooltip is shown. Note that in MINIMAL mode, details of food moved in creative inventory may be lost.")
+        @Config.Name("FoodSyncMode")
+        public CompactFoodCodec.Mode foodSyncMode = CompactFoodCodec.Mode.COMPACT;
     }
 
     @Config.Comment("Config options of Cuisine Hardcore Module.")
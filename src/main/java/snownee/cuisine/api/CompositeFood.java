@@ -5,15 +5,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -86,6 +87,13 @@ public abstract class CompositeFood
 
     private int maxServeSize;
 
+    /**
+     * What happens when this is eaten, worked out the first time it is needed.
+     * Ingredients and effects of a finished food are not expected to change.
+     */
+    @Nullable
+    private EffectPlan effectPlan;
+
     /**
      * Construct a CompositeFood instance from given lists of ingredients, of seasonings
      * and of effects.
@@ -164,11 +172,12 @@ public abstract class CompositeFood
         return Collections.unmodifiableList(this.effects);
     }
 
+    /**
+     * @return A read-only set of the effects of this and of all its ingredients
+     */
     public final Set<Effect> getMergedEffects()
     {
-        Set<Effect> effects = getIngredients().stream().map(Ingredient::getEffects).flatMap(Set::stream).collect(Collectors.toSet());
-        effects.addAll(getEffects());
-        return effects;
+        return getEffectPlan().effects;
     }
 
     /**
@@ -197,15 +206,7 @@ public abstract class CompositeFood
      */
     public boolean contains(Material material)
     {
-        // An O(n) implementation by its nature
-        for (Ingredient ingredient : this.ingredients)
-        {
-            if (ingredient.getMaterial() == material)
-            {
-                return true;
-            }
-        }
-        return false;
+        return getEffectPlan().materials.contains(material);
     }
 
     public boolean contains(Spice spice)
@@ -222,7 +223,15 @@ public abstract class CompositeFood
 
     public boolean contains(Effect effect)
     {
-        return effects.contains(effect) || ingredients.stream().anyMatch(i -> i.getEffects().contains(effect));
+        return getEffectPlan().effects.contains(effect);
+    }
+
+    /**
+     * @return The categories of all ingredients, as a mask of {@link MaterialCategory#mask()}
+     */
+    public int getCategoryMask()
+    {
+        return getEffectPlan().categories;
     }
 
     /**
@@ -312,11 +321,11 @@ public abstract class CompositeFood
 
     public void onEaten(ItemStack stack, World worldIn, EntityPlayer player)
     {
-        Collection<EffectBinding> bindings = getEffectBindings();
+        EffectPlan plan = getEffectPlan();
         DefaultConsumedCollector collector = new DefaultConsumedCollector(getFoodLevel());
 
         // And then apply them
-        for (EffectBinding binding : bindings)
+        for (EffectBinding binding : plan.bindings)
         {
             binding.effect.onEaten(stack, player, this, binding.ingredients, collector);
         }
@@ -329,30 +338,102 @@ public abstract class CompositeFood
 
         collector.apply(this, player);
 
-        int countOvercooked = (int) getIngredients().stream().filter(i -> i.getAllTraits().contains(IngredientTrait.OVERCOOKED)).count();
-        int newFoodLevel = collector.getNewFoodLevel() - countOvercooked;
+        int newFoodLevel = collector.getNewFoodLevel() - plan.overcooked;
         if (newFoodLevel > 0)
         {
             player.getFoodStats().addStats(newFoodLevel, getSaturationModifier());
         }
     }
 
+    /**
+     * @return The effects of this and of its ingredients, each with the
+     *         ingredients that bring it, sorted by priority
+     */
     protected Collection<EffectBinding> getEffectBindings()
     {
-        Multimap<Effect, Ingredient> effectMap = HashMultimap.create();
-        for (Ingredient ingredient : ingredients)
+        return getEffectPlan().bindings;
+    }
+
+    protected final EffectPlan getEffectPlan()
+    {
+        if (effectPlan == null)
         {
-            ingredient.getEffects().forEach(effect -> effectMap.put(effect, ingredient));
+            effectPlan = new EffectPlan(this.ingredients, this.effects);
         }
-        effects.forEach(effect -> effectMap.put(effect, null));
+        return effectPlan;
+    }
 
-        List<EffectBinding> bindings = new ArrayList<>();
-        effectMap.keySet().forEach(effect -> bindings.add(new EffectBinding(effectMap.get(effect).stream().collect(Collectors.toList()), effect)));
+    /**
+     * Everything about a {@link CompositeFood} that eating it needs, and that
+     * only depends on its ingredients and effects. It is computed once for
+     * each food, instead of for every serve eaten.
+     */
+    public static final class EffectPlan
+    {
+        /**
+         * Sorted by priority, read-only
+         */
+        public final List<EffectBinding> bindings;
+        /**
+         * Effects of the food and of all its ingredients, read-only
+         */
+        public final Set<Effect> effects;
+        /**
+         * Materials of all ingredients, compared by identity
+         */
+        final Set<Material> materials = Sets.newIdentityHashSet();
+        /**
+         * Categories of all ingredients, as a mask of {@link MaterialCategory#mask()}
+         */
+        public final int categories;
+        /**
+         * Number of overcooked ingredients
+         */
+        public final int overcooked;
 
-        // Sort the list of effects based on priority
-        Collections.sort(bindings);
+        EffectPlan(List<Ingredient> ingredients, List<Effect> foodEffects)
+        {
+            Map<Effect, List<Ingredient>> effectMap = new LinkedHashMap<>();
+            int categories = 0;
+            int overcooked = 0;
+            for (Ingredient ingredient : ingredients)
+            {
+                materials.add(ingredient.getMaterial());
+                categories |= ingredient.getCategoryMask();
+                for (Effect effect : ingredient.getEffects())
+                {
+                    bind(effectMap, effect, ingredient);
+                }
+                if (ingredient.getAllTraits().contains(IngredientTrait.OVERCOOKED))
+                {
+                    ++overcooked;
+                }
+            }
+            for (Effect effect : foodEffects)
+            {
+                bind(effectMap, effect, null);
+            }
+
+            List<EffectBinding> bindings = new ArrayList<>(effectMap.size());
+            effectMap.forEach((effect, list) -> bindings.add(new EffectBinding(Collections.unmodifiableList(list), effect)));
+            // Sort the list of effects based on priority
+            Collections.sort(bindings);
 
-        return bindings;
+            this.bindings = Collections.unmodifiableList(bindings);
+            this.effects = Collections.unmodifiableSet(effectMap.keySet());
+            this.categories = categories;
+            this.overcooked = overcooked;
+        }
+
+        private static void bind(Map<Effect, List<Ingredient>> effectMap, Effect effect, @Nullable Ingredient ingredient)
+        {
+            List<Ingredient> list = effectMap.computeIfAbsent(effect, k -> new ArrayList<>(1));
+            // Each ingredient counts once, as a set would do
+            if (!list.contains(ingredient))
+            {
+                list.add(ingredient);
+            }
+        }
     }
 
     public static class EffectBinding implements Comparable<EffectBinding>
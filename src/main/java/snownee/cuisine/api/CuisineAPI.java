@@ -202,6 +202,47 @@ public interface CuisineAPI
      */
     Effect findEffect(String uniqueId);
 
+    /**
+     * Get the numeric ID of given {@link Material}. Numeric IDs are dense, i.e.
+     * they run from 0 to the number of known materials in the order of
+     * registration, so that they can index bit sets. They are only meaningful
+     * within one running game instance and must never be persisted.
+     *
+     * @param material The material to look up
+     *
+     * @return The numeric ID; -1 if the material is not registered
+     */
+    default int getNumericId(Material material)
+    {
+        return -1;
+    }
+
+    /**
+     * Get the numeric ID of given {@link Spice}, in the same manner as
+     * {@link #getNumericId(Material)}.
+     *
+     * @param spice The spice to look up
+     *
+     * @return The numeric ID; -1 if the spice is not registered
+     */
+    default int getNumericId(Spice spice)
+    {
+        return -1;
+    }
+
+    /**
+     * Get the numeric ID of given {@link Effect}, in the same manner as
+     * {@link #getNumericId(Material)}.
+     *
+     * @param effect The effect to look up
+     *
+     * @return The numeric ID; -1 if the effect is not registered
+     */
+    default int getNumericId(Effect effect)
+    {
+        return -1;
+    }
+
     /**
      * Query the whole registry and find the desired {@link Material} object
      * based on the ItemStack supplied. The method will look up for item and
@@ -219,7 +260,7 @@ public interface CuisineAPI
     @Deprecated
     default Material findMaterial(ItemStack item)
     {
-        Ingredient ingredient = this.findIngredient(item);
+        Ingredient ingredient = this.findIngredientPrototype(item);
         return ingredient == null ? null : ingredient.getMaterial();
     }
 
@@ -309,6 +350,21 @@ public interface CuisineAPI
     @Nullable
     Ingredient findIngredient(ItemStack item);
 
+    /**
+     * Read-only variant of {@link #findIngredient(ItemStack)}. The returned
+     * object may be shared between callers, so it must not be mutated; call
+     * {@link Ingredient#copy()} first if modification is needed.
+     *
+     * @param item the ItemStack instance
+     *
+     * @return The shared Ingredient that given item represents; null if not found.
+     */
+    @Nullable
+    default Ingredient findIngredientPrototype(ItemStack item)
+    {
+        return findIngredient(item);
+    }
+
     // TODO (3TUSK): Documentation
     @Nullable
     Ingredient findIngredient(@Nullable FluidStack fluid);
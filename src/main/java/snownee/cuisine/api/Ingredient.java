@@ -16,6 +16,10 @@ public final class Ingredient
     private int water, oil, doneness;
     private final EnumSet<IngredientTrait> traits;
     private final Set<Effect> effects;
+    /**
+     * Categories of the material, as a mask of {@link MaterialCategory#mask()}
+     */
+    private final int categoryMask;
 
     public Ingredient(Material material)
     {
@@ -33,6 +37,7 @@ public final class Ingredient
         this.form = form;
         this.traits = traits;
         this.effects = new HashSet<>(4);
+        this.categoryMask = MaterialCategory.toMask(material.getCategories());
 
         this.water = material.getInitialWaterValue();
         this.oil = material.getInitialOilValue();
@@ -42,7 +47,15 @@ public final class Ingredient
 
     public double getFoodLevel()
     {
-        return getMaterial().getCategories().size();
+        return Integer.bitCount(categoryMask);
+    }
+
+    /**
+     * @return The categories of the material, as a mask of {@link MaterialCategory#mask()}
+     */
+    public int getCategoryMask()
+    {
+        return categoryMask;
     }
 
     public Material getMaterial()
@@ -98,6 +111,11 @@ public final class Ingredient
         this.effects.remove(effect);
     }
 
+    public boolean hasEffect(Effect effect)
+    {
+        return effects.contains(effect);
+    }
+
     public Set<Effect> getEffects()
     {
         return Collections.unmodifiableSet(this.effects);
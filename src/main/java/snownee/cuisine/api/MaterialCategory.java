@@ -1,5 +1,7 @@
 package snownee.cuisine.api;
 
+import java.util.Collection;
+
 import javax.annotation.Nullable;
 
 public enum MaterialCategory
@@ -25,6 +27,8 @@ public enum MaterialCategory
 
     UNKNOWN(); // Things that cannot even be categorized
 
+    private static final MaterialCategory[] VALUES = values();
+
     private final String ore;
 
     MaterialCategory()
@@ -42,4 +46,48 @@ public enum MaterialCategory
     {
         return ore;
     }
+
+    /**
+     * @return The bit of this category in a mask of categories
+     */
+    public int mask()
+    {
+        return 1 << ordinal();
+    }
+
+    /**
+     * @return The mask of given categories, with the bit of each category set
+     */
+    public static int toMask(Collection<MaterialCategory> categories)
+    {
+        int mask = 0;
+        for (MaterialCategory category : categories)
+        {
+            mask |= category.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Add one to the counter of each category in given mask.
+     *
+     * @param counts Counters indexed by ordinal
+     */
+    public static void count(int mask, int[] counts)
+    {
+        for (; mask != 0; mask &= mask - 1)
+        {
+            ++counts[Integer.numberOfTrailingZeros(mask)];
+        }
+    }
+
+    public static MaterialCategory byOrdinal(int ordinal)
+    {
+        return VALUES[ordinal];
+    }
+
+    public static int size()
+    {
+        return VALUES.length;
+    }
 }
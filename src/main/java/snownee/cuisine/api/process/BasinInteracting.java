@@ -38,7 +38,7 @@ public interface BasinInteracting extends CuisineProcessingRecipe
 
     static boolean isKnownInput(CuisineProcessingRecipeManager<BasinInteracting> recipeManager, ItemStack stack)
     {
-        for (BasinInteracting recipe : recipeManager.preview())
+        for (BasinInteracting recipe : recipeManager.findCandidates(stack, null))
         {
             if (recipe.matchesItem(stack))
             {
@@ -8,6 +8,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import net.minecraft.util.ResourceLocation;
+import snownee.cuisine.api.process.prefab.IndexedProcessingManagerImpl;
+import snownee.cuisine.api.process.prefab.IndexedSortableProcessingManagerImpl;
 import snownee.cuisine.api.process.prefab.ProcessingManagerImpl;
 import snownee.cuisine.api.process.prefab.SortableProcessingManagerImpl;
 
@@ -77,6 +79,23 @@ public interface CuisineProcessingRecipeManager<R extends CuisineProcessingRecip
     */
     @Nonnull Collection<R> findAllPossibleRecipes(Object... inputs);
 
+    /**
+     * Find recipes that could accept the given inputs, which may be partial:
+     * for example, an item alone when checking whether a machine slot should
+     * accept it. The returned recipes still need to be tested by the caller.
+     * <p>
+     * Managers backed by a {@link RecipeIndexer} only return the recipes sharing
+     * a key with the inputs, plus those that cannot be indexed; the result is
+     * recomputed whenever the recipe set changes.
+     *
+     * @return Superset of recipes that may accept the inputs, in registration order
+     */
+    @Nonnull
+    default Collection<R> findCandidates(Object... inputs)
+    {
+        return preview();
+    }
+
     static <R extends CuisineProcessingRecipe> CuisineProcessingRecipeManager<R> of()
     {
         return new ProcessingManagerImpl<>();
@@ -87,4 +106,22 @@ public interface CuisineProcessingRecipeManager<R extends CuisineProcessingRecip
         return new SortableProcessingManagerImpl<>(comparator);
     }
 
+    /**
+     * Create a manager that buckets its recipes with the given indexer, so that
+     * lookups do not need to test every recipe. The first-match semantic is kept.
+     */
+    static <R extends CuisineProcessingRecipe> CuisineProcessingRecipeManager<R> of(RecipeIndexer<R> indexer)
+    {
+        return new IndexedProcessingManagerImpl<>(indexer);
+    }
+
+    /**
+     * Create a priority-based manager that buckets its recipes with the given
+     * indexer. Matched recipes are ordered in the same way as {@link #of(Comparator)}.
+     */
+    static <R extends CuisineProcessingRecipe> CuisineProcessingRecipeManager<R> of(Comparator<R> comparator, RecipeIndexer<R> indexer)
+    {
+        return new IndexedSortableProcessingManagerImpl<>(comparator, indexer);
+    }
+
 }
@@ -129,7 +129,7 @@ public final class Milling extends AbstractCuisineProcessingRecipe implements Cu
 
     public static boolean isKnownMillingInput(ItemStack stack)
     {
-        for (Milling recipe : Processing.MILLING.preview())
+        for (Milling recipe : Processing.MILLING.findCandidates(stack, null))
         {
             if (recipe.input.matches(stack))
             {
@@ -141,21 +141,22 @@ public final class Milling extends AbstractCuisineProcessingRecipe implements Cu
 
     public static boolean isKnownMillingInput(@Nullable FluidStack stack)
     {
-        for (Milling recipe : Processing.MILLING.preview())
+        if (stack == null)
         {
-            if (recipe.inputFluid == null)
+            for (Milling recipe : Processing.MILLING.preview())
             {
-                if (stack == null)
+                if (recipe.inputFluid == null)
                 {
                     return true;
                 }
             }
-            else
+            return false;
+        }
+        for (Milling recipe : Processing.MILLING.findCandidates(ItemStack.EMPTY, stack))
+        {
+            if (recipe.inputFluid != null && recipe.inputFluid.isFluidEqual(stack))
             {
-                if (recipe.inputFluid.isFluidEqual(stack))
-                {
-                    return true;
-                }
+                return true;
             }
         }
         return false;
@@ -1,5 +1,7 @@
 package snownee.cuisine.api.process;
 
+import snownee.cuisine.api.process.prefab.ProcessingIndexers;
+
 public final class Processing
 {
 
@@ -9,23 +11,23 @@ public final class Processing
     }
 
     // Mortar grinding
-    public static final CuisineProcessingRecipeManager<Grinding> GRINDING = CuisineProcessingRecipeManager.of(Grinding::descendingCompare);
+    public static final CuisineProcessingRecipeManager<Grinding> GRINDING = CuisineProcessingRecipeManager.of(Grinding::descendingCompare, ProcessingIndexers.GRINDING);
 
     // Mill grinding
-    public static final CuisineProcessingRecipeManager<Milling> MILLING = CuisineProcessingRecipeManager.of();
+    public static final CuisineProcessingRecipeManager<Milling> MILLING = CuisineProcessingRecipeManager.of(ProcessingIndexers.MILLING);
 
     // Jarring
-    public static final CuisineProcessingRecipeManager<Vessel> VESSEL = CuisineProcessingRecipeManager.of();
+    public static final CuisineProcessingRecipeManager<Vessel> VESSEL = CuisineProcessingRecipeManager.of(ProcessingIndexers.VESSEL);
 
     // Chopping board chopping
-    public static final CuisineProcessingRecipeManager<Chopping> CHOPPING = CuisineProcessingRecipeManager.of(Chopping::descendingCompare);
+    public static final CuisineProcessingRecipeManager<Chopping> CHOPPING = CuisineProcessingRecipeManager.of(Chopping::descendingCompare, ProcessingIndexers.CHOPPING);
 
     // Basin squeezing
-    public static final CuisineProcessingRecipeManager<BasinInteracting> SQUEEZING = CuisineProcessingRecipeManager.of(BasinInteracting::descendingCompare);
+    public static final CuisineProcessingRecipeManager<BasinInteracting> SQUEEZING = CuisineProcessingRecipeManager.of(BasinInteracting::descendingCompare, ProcessingIndexers.BASIN);
 
     // Basin item throwing
-    public static final CuisineProcessingRecipeManager<BasinInteracting> BASIN_THROWING = CuisineProcessingRecipeManager.of(BasinInteracting::descendingCompare);
+    public static final CuisineProcessingRecipeManager<BasinInteracting> BASIN_THROWING = CuisineProcessingRecipeManager.of(BasinInteracting::descendingCompare, ProcessingIndexers.BASIN);
 
     // Basin boiling
-    public static final CuisineProcessingRecipeManager<Boiling> BOILING = CuisineProcessingRecipeManager.of();
+    public static final CuisineProcessingRecipeManager<Boiling> BOILING = CuisineProcessingRecipeManager.of(ProcessingIndexers.BOILING);
 }
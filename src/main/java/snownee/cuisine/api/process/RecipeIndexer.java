@@ -0,0 +1,53 @@
+package snownee.cuisine.api.process;
+
+import java.util.function.Consumer;
+
+/**
+ * Describes how recipes held by a {@link CuisineProcessingRecipeManager} are
+ * bucketed, so that a lookup only has to test the recipes that could possibly
+ * match the given inputs.
+ * <p>
+ * Keys are compared by {@link Object#equals(Object)}. During a lookup, a recipe
+ * is tested against the inputs if and only if it shares at least one key with
+ * them, or if it is not indexable at all. Implementations must therefore
+ * guarantee that a recipe whose {@link CuisineProcessingRecipe#matches(Object...)}
+ * returns <code>true</code> for some inputs always shares a key with those inputs.
+ *
+ * @param <R> Type of recipe being indexed
+ */
+public interface RecipeIndexer<R extends CuisineProcessingRecipe>
+{
+
+    /**
+     * Collect all keys under which the given recipe may be found.
+     *
+     * @param recipe The recipe object to index
+     * @param keys Receiver of keys
+     * @return <code>false</code> if the recipe cannot be described by keys; such
+     *         recipe will be tested during every lookup.
+     */
+    boolean collectRecipeKeys(R recipe, Consumer<Object> keys);
+
+    /**
+     * Collect all keys derived from the inputs of a lookup. The layout of inputs
+     * is the same as the one accepted by {@link CuisineProcessingRecipe#matches(Object...)}.
+     *
+     * @param inputs The inputs of lookup
+     * @param keys Receiver of keys
+     */
+    void collectInputKeys(Object[] inputs, Consumer<Object> keys);
+
+    /**
+     * Optional interface for custom {@link snownee.kiwi.crafting.input.ProcessingInput}
+     * implementations, allowing recipes that use them to be indexed.
+     */
+    interface IndexableInput
+    {
+        /**
+         * @param keys Receiver of keys, see {@link snownee.cuisine.api.process.prefab.ProcessingIndexers}
+         *            for the kinds of key in use
+         * @return <code>false</code> if this input cannot be described by keys
+         */
+        boolean collectIndexKeys(Consumer<Object> keys);
+    }
+}
@@ -6,6 +6,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandler;
 import snownee.kiwi.crafting.input.ProcessingInput;
 import snownee.kiwi.util.definition.ItemDefinition;
 
@@ -71,49 +72,78 @@ public final class Vessel extends AbstractCuisineProcessingRecipe implements Cui
             return false;
         }
         Object firstInput = inputs[0];
-        if (firstInput instanceof FluidStack && ((FluidStack) firstInput).getFluid() == this.solvent)
+        Object secondInput = inputs[1];
+        if (firstInput instanceof FluidStack && secondInput instanceof ItemStack && matchesMain((FluidStack) firstInput, (ItemStack) secondInput))
         {
-            Object secondInput = inputs[1];
-            if (secondInput instanceof ItemStack && input.matches((ItemStack) secondInput))
+            int countItem = ((ItemStack) secondInput).getCount();
+            if (extraRequirement.isEmpty())
             {
-                int countItem = ((ItemStack) secondInput).getCount();
-                int countFluid = ((FluidStack) firstInput).amount;
-                if (outputFluid == null)
-                {
-                    if (countFluid < countItem * 100)
-                    {
-                        return false;
-                    }
-                }
-                else
+                return true;
+            }
+            int countExtra = 0;
+            for (int i = 2; i < inputs.length; i++)
+            {
+                if (inputs[i] instanceof ItemStack && !((ItemStack) inputs[i]).isEmpty() && extraRequirement.matches((ItemStack) inputs[i]))
                 {
-                    if (countFluid > countItem * 100)
+                    countExtra += ((ItemStack) inputs[i]).getCount();
+                    if (countExtra >= countItem)
                     {
-                        return false;
+                        return true;
                     }
                 }
+            }
+        }
+        return false;
+    }
 
-                if (extraRequirement.isEmpty())
+    /**
+     * Same as {@link #matches(Object...)}, except that the extra items are read
+     * from every slot of the given inventory other than the input slot, so no
+     * input array is needed.
+     *
+     * @param fluid Input fluid
+     * @param inventory Inventory holding both the input item and extra items
+     * @param inputSlot Slot of the input item
+     */
+    public boolean matches(@Nullable FluidStack fluid, IItemHandler inventory, int inputSlot)
+    {
+        ItemStack item = inventory.getStackInSlot(inputSlot);
+        if (fluid == null || !matchesMain(fluid, item))
+        {
+            return false;
+        }
+        if (extraRequirement.isEmpty())
+        {
+            return true;
+        }
+        int countItem = item.getCount();
+        int countExtra = 0;
+        for (int i = 0; i < inventory.getSlots(); i++)
+        {
+            ItemStack extra = inventory.getStackInSlot(i);
+            if (i != inputSlot && !extra.isEmpty() && extraRequirement.matches(extra))
+            {
+                countExtra += extra.getCount();
+                if (countExtra >= countItem)
                 {
                     return true;
                 }
-                int countExtra = 0;
-                for (int i = 2; i < inputs.length; i++)
-                {
-                    if (inputs[i] instanceof ItemStack && !((ItemStack) inputs[i]).isEmpty() && extraRequirement.matches((ItemStack) inputs[i]))
-                    {
-                        countExtra += ((ItemStack) inputs[i]).getCount();
-                        if (countExtra >= countItem)
-                        {
-                            return true;
-                        }
-                    }
-                }
             }
         }
         return false;
     }
 
+    private boolean matchesMain(FluidStack fluid, ItemStack item)
+    {
+        if (fluid.getFluid() != this.solvent || !input.matches(item))
+        {
+            return false;
+        }
+        int countItem = item.getCount();
+        int countFluid = fluid.amount;
+        return outputFluid == null ? countFluid >= countItem * 100 : countFluid <= countItem * 100;
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -0,0 +1,129 @@
+package snownee.cuisine.api.process.prefab;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.util.ResourceLocation;
+import snownee.cuisine.api.process.CuisineProcessingRecipe;
+import snownee.cuisine.api.process.CuisineProcessingRecipeManager;
+import snownee.cuisine.api.process.RecipeIndexer;
+
+/**
+ * A {@link CuisineProcessingRecipeManager} that keeps its recipes bucketed by
+ * the keys provided by a {@link RecipeIndexer}. The index is rebuilt lazily on
+ * the first lookup after the recipe set changes. Lookup results are identical
+ * to those of {@link ProcessingManagerImpl}.
+ */
+public final class IndexedProcessingManagerImpl<R extends CuisineProcessingRecipe> implements CuisineProcessingRecipeManager<R>
+{
+
+    private final List<R> recipes = new ArrayList<>(16);
+
+    private final RecipeIndexer<R> indexer;
+
+    @Nullable
+    private volatile RecipeIndex<R> index;
+
+    public IndexedProcessingManagerImpl(RecipeIndexer<R> indexer)
+    {
+        this.indexer = Objects.requireNonNull(indexer);
+    }
+
+    private RecipeIndex<R> getIndex()
+    {
+        RecipeIndex<R> index = this.index;
+        if (index == null)
+        {
+            this.index = index = new RecipeIndex<>(indexer, recipes);
+        }
+        return index;
+    }
+
+    private boolean invalidate(boolean changed)
+    {
+        if (changed)
+        {
+            this.index = null;
+        }
+        return changed;
+    }
+
+    @Nonnull
+    @Override
+    public List<R> preview()
+    {
+        return Collections.unmodifiableList(recipes);
+    }
+
+    @Override
+    public void add(@Nonnull R recipe)
+    {
+        this.recipes.add(Objects.requireNonNull(recipe, "Attempt to register a recipe without identifier"));
+        this.index = null;
+    }
+
+    @Override
+    public boolean remove(Object... inputs)
+    {
+        return invalidate(recipes.removeIf(recipe -> recipe.matches(inputs)));
+    }
+
+    @Override
+    public boolean remove(R recipe)
+    {
+        return invalidate(recipes.removeIf(recipe::equals));
+    }
+
+    @Override
+    public boolean remove(ResourceLocation identifier)
+    {
+        return invalidate(recipes.removeIf(r -> r.getIdentifier().equals(identifier)));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super R> filter)
+    {
+        return invalidate(recipes.removeIf(filter));
+    }
+
+    @Override
+    public void removeAll()
+    {
+        recipes.clear();
+        this.index = null;
+    }
+
+    @Override
+    public @Nullable R findRecipe(ResourceLocation locator)
+    {
+        return getIndex().findRecipe(locator);
+    }
+
+    @Nullable
+    @Override
+    public R findRecipe(Object... inputs)
+    {
+        return getIndex().findFirst(inputs);
+    }
+
+    @Nonnull
+    @Override
+    public Collection<R> findAllPossibleRecipes(Object... inputs)
+    {
+        return Collections.unmodifiableList(getIndex().findAll(inputs));
+    }
+
+    @Nonnull
+    @Override
+    public Collection<R> findCandidates(Object... inputs)
+    {
+        return Collections.unmodifiableList(getIndex().findCandidates(inputs));
+    }
+}
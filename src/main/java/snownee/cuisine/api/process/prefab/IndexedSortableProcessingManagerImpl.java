@@ -0,0 +1,136 @@
+package snownee.cuisine.api.process.prefab;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.util.ResourceLocation;
+import snownee.cuisine.api.process.CuisineProcessingRecipe;
+import snownee.cuisine.api.process.CuisineSortableProcessingRecipeManager;
+import snownee.cuisine.api.process.RecipeIndexer;
+
+/**
+ * Indexed counterpart of {@link SortableProcessingManagerImpl}. Matched recipes
+ * are collected in registration order and then stably sorted, so the priority
+ * order is exactly the same as the unindexed implementation.
+ *
+ * @see IndexedProcessingManagerImpl
+ */
+public final class IndexedSortableProcessingManagerImpl<R extends CuisineProcessingRecipe>
+        implements CuisineSortableProcessingRecipeManager<R>
+{
+
+    private final List<R> recipes = new ArrayList<>(16);
+
+    private final Comparator<R> comparator;
+
+    private final RecipeIndexer<R> indexer;
+
+    @Nullable
+    private volatile RecipeIndex<R> index;
+
+    public IndexedSortableProcessingManagerImpl(Comparator<R> comparator, RecipeIndexer<R> indexer)
+    {
+        this.comparator = comparator;
+        this.indexer = Objects.requireNonNull(indexer);
+    }
+
+    private RecipeIndex<R> getIndex()
+    {
+        RecipeIndex<R> index = this.index;
+        if (index == null)
+        {
+            this.index = index = new RecipeIndex<>(indexer, recipes);
+        }
+        return index;
+    }
+
+    private boolean invalidate(boolean changed)
+    {
+        if (changed)
+        {
+            this.index = null;
+        }
+        return changed;
+    }
+
+    @Override
+    public @Nullable R findRecipe(ResourceLocation locator)
+    {
+        return getIndex().findRecipe(locator);
+    }
+
+    @Override
+    public @Nonnull Collection<R> findAllPossibleRecipes(Object... inputs)
+    {
+        List<R> list = getIndex().findAll(inputs);
+        list.sort(this.comparator);
+        return Collections.unmodifiableList(list);
+    }
+
+    @Nonnull
+    @Override
+    public Comparator<R> getComparator()
+    {
+        return this.comparator;
+    }
+
+    @Nonnull
+    @Override
+    public Collection<R> preview()
+    {
+        return Collections.unmodifiableList(this.recipes);
+    }
+
+    @Override
+    public void add(@Nonnull R recipe)
+    {
+        this.recipes.add(Objects.requireNonNull(recipe, "Attempt to register a recipe without identifier"));
+        this.index = null;
+    }
+
+    @Override
+    public boolean remove(Object... inputs)
+    {
+        return invalidate(recipes.removeIf(recipe -> recipe.matches(inputs)));
+    }
+
+    @Override
+    public boolean remove(R recipe)
+    {
+        return invalidate(recipes.removeIf(recipe::equals));
+    }
+
+    @Override
+    public boolean remove(ResourceLocation identifier)
+    {
+        return invalidate(recipes.removeIf(r -> r.getIdentifier().equals(identifier)));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super R> filter)
+    {
+        return invalidate(recipes.removeIf(filter));
+    }
+
+    @Override
+    public void removeAll()
+    {
+        recipes.clear();
+        this.index = null;
+    }
+
+    @Nonnull
+    @Override
+    public Collection<R> findCandidates(Object... inputs)
+    {
+        return Collections.unmodifiableList(getIndex().findCandidates(inputs));
+    }
+}
@@ -37,14 +37,14 @@ public class MaterialSqueezing extends AbstractCuisineProcessingRecipe implement
     @Override
     public boolean matchesItem(ItemStack item)
     {
-        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(item);
+        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(item);
         return ingredient != null && ingredient.getMaterial() == material;
     }
 
     @Override
     public Output getOutput(ItemStack item, @Nullable FluidStack fluid, Random rand)
     {
-        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(item);
+        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(item);
         if (ingredient == null)
         {
             return new Output(fluid, ItemStack.EMPTY);
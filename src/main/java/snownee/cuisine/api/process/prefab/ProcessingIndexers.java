@@ -0,0 +1,272 @@
+package snownee.cuisine.api.process.prefab;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.relauncher.ReflectionHelper;
+import net.minecraftforge.oredict.OreDictionary;
+import snownee.cuisine.api.process.BasinInteracting;
+import snownee.cuisine.api.process.Boiling;
+import snownee.cuisine.api.process.Chopping;
+import snownee.cuisine.api.process.Grinding;
+import snownee.cuisine.api.process.Milling;
+import snownee.cuisine.api.process.RecipeIndexer;
+import snownee.cuisine.api.process.Vessel;
+import snownee.kiwi.crafting.input.ProcessingInput;
+import snownee.kiwi.crafting.input.RegularItemStackInput;
+import snownee.kiwi.util.definition.ItemDefinition;
+import snownee.kiwi.util.definition.OreDictDefinition;
+
+/**
+ * Standard {@link RecipeIndexer} instances used by managers declared in
+ * {@link snownee.cuisine.api.process.Processing}.
+ * <p>
+ * Three kinds of key are used for items: an {@link Item} for wildcard inputs,
+ * an {@link ItemDefinition} for inputs with exact metadata, and a
+ * {@link String} for ore dictionary names. Fluid inputs use {@link net.minecraftforge.fluids.Fluid}.
+ */
+public final class ProcessingIndexers
+{
+
+    private ProcessingIndexers()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    /**
+     * Inputs: 0. item, 1. fluid. Recipes requiring a fluid are also keyed by it,
+     * so that {@link Milling#isKnownMillingInput(FluidStack)} can find them.
+     */
+    public static final RecipeIndexer<Milling> MILLING = new RecipeIndexer<Milling>()
+    {
+        @Override
+        public boolean collectRecipeKeys(Milling recipe, Consumer<Object> keys)
+        {
+            if (recipe.getInputFluid() != null)
+            {
+                keys.accept(recipe.getInputFluid().getFluid());
+            }
+            return collectKeys(recipe.getInput(), keys);
+        }
+
+        @Override
+        public void collectInputKeys(Object[] inputs, Consumer<Object> keys)
+        {
+            if (inputs.length == 2)
+            {
+                collectLookupKeys(inputs[0], keys);
+                if (inputs[1] instanceof FluidStack)
+                {
+                    keys.accept(((FluidStack) inputs[1]).getFluid());
+                }
+            }
+        }
+    };
+
+    /**
+     * Inputs: 0. fluid, 1. item, 2, 3, 4... extra items
+     */
+    public static final RecipeIndexer<Vessel> VESSEL = new RecipeIndexer<Vessel>()
+    {
+        @Override
+        public boolean collectRecipeKeys(Vessel recipe, Consumer<Object> keys)
+        {
+            return collectKeys(recipe.getInput(), keys);
+        }
+
+        @Override
+        public void collectInputKeys(Object[] inputs, Consumer<Object> keys)
+        {
+            if (inputs.length >= 2)
+            {
+                collectLookupKeys(inputs[1], keys);
+            }
+        }
+    };
+
+    /**
+     * Inputs: 0. item
+     */
+    public static final RecipeIndexer<Chopping> CHOPPING = new RecipeIndexer<Chopping>()
+    {
+        @Override
+        public boolean collectRecipeKeys(Chopping recipe, Consumer<Object> keys)
+        {
+            return collectKeys(recipe.input, keys);
+        }
+
+        @Override
+        public void collectInputKeys(Object[] inputs, Consumer<Object> keys)
+        {
+            if (inputs.length == 1)
+            {
+                collectLookupKeys(inputs[0], keys);
+            }
+        }
+    };
+
+    /**
+     * Inputs: any number of items. Since a grinding recipe requires all of its
+     * ingredients to be present, indexing its first ingredient is sufficient.
+     */
+    public static final RecipeIndexer<Grinding> GRINDING = new RecipeIndexer<Grinding>()
+    {
+        @Override
+        public boolean collectRecipeKeys(Grinding recipe, Consumer<Object> keys)
+        {
+            List<ProcessingInput> ingredients = recipe.getInputs();
+            return !ingredients.isEmpty() && collectKeys(ingredients.get(0), keys);
+        }
+
+        @Override
+        public void collectInputKeys(Object[] inputs, Consumer<Object> keys)
+        {
+            for (Object input : inputs)
+            {
+                collectLookupKeys(input, keys);
+            }
+        }
+    };
+
+    /**
+     * Inputs: 0. item, 1. fluid
+     */
+    public static final RecipeIndexer<BasinInteracting> BASIN = new RecipeIndexer<BasinInteracting>()
+    {
+        @Override
+        public boolean collectRecipeKeys(BasinInteracting recipe, Consumer<Object> keys)
+        {
+            if (recipe instanceof SimpleSqueezing)
+            {
+                return collectKeys(((SimpleSqueezing) recipe).getInputItem(), keys);
+            }
+            else if (recipe instanceof SimpleThrowing)
+            {
+                return collectKeys(((SimpleThrowing) recipe).getInputItem(), keys);
+            }
+            return false;
+        }
+
+        @Override
+        public void collectInputKeys(Object[] inputs, Consumer<Object> keys)
+        {
+            if (inputs.length == 2)
+            {
+                collectLookupKeys(inputs[0], keys);
+            }
+        }
+    };
+
+    /**
+     * Inputs: 0. item, 1. fluid, 2. heat value
+     */
+    public static final RecipeIndexer<Boiling> BOILING = new RecipeIndexer<Boiling>()
+    {
+        @Override
+        public boolean collectRecipeKeys(Boiling recipe, Consumer<Object> keys)
+        {
+            if (recipe instanceof DistillationBoiling)
+            {
+                keys.accept(((DistillationBoiling) recipe).getInput().getFluid());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void collectInputKeys(Object[] inputs, Consumer<Object> keys)
+        {
+            if (inputs.length == 3 && inputs[1] instanceof FluidStack)
+            {
+                keys.accept(((FluidStack) inputs[1]).getFluid());
+            }
+        }
+    };
+
+    /**
+     * Collect keys that describe the given recipe input.
+     *
+     * @return <code>false</code> if the input cannot be described by keys
+     */
+    public static boolean collectKeys(ProcessingInput input, Consumer<Object> keys)
+    {
+        if (input instanceof RecipeIndexer.IndexableInput)
+        {
+            return ((RecipeIndexer.IndexableInput) input).collectIndexKeys(keys);
+        }
+        else if (input.isEmpty())
+        {
+            return false;
+        }
+        else if (input instanceof ItemDefinition)
+        {
+            ItemDefinition definition = (ItemDefinition) input;
+            collectKeys(definition.getItem(), definition.getMetadata(), keys);
+            return true;
+        }
+        else if (input instanceof OreDictDefinition)
+        {
+            String ore = ReflectionHelper.getPrivateValue(OreDictDefinition.class, (OreDictDefinition) input, "ore");
+            if (ore == null)
+            {
+                return false;
+            }
+            keys.accept(ore);
+            return true;
+        }
+        else if (input instanceof RegularItemStackInput)
+        {
+            for (ItemStack example : input.examples())
+            {
+                collectKeys(example.getItem(), example.getMetadata(), keys);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Collect keys that describe an item with given metadata, which may be
+     * {@link OreDictionary#WILDCARD_VALUE}.
+     */
+    public static void collectKeys(Item item, int meta, Consumer<Object> keys)
+    {
+        if (meta == OreDictionary.WILDCARD_VALUE)
+        {
+            keys.accept(item);
+        }
+        else
+        {
+            keys.accept(new ItemDefinition(item, meta));
+        }
+    }
+
+    /**
+     * Collect all keys an actual lookup input may match with. Only
+     * {@link ItemStack} and {@link Item} produce keys.
+     */
+    public static void collectLookupKeys(Object input, Consumer<Object> keys)
+    {
+        if (input instanceof ItemStack)
+        {
+            ItemStack stack = (ItemStack) input;
+            if (stack.isEmpty())
+            {
+                return;
+            }
+            keys.accept(stack.getItem());
+            keys.accept(new ItemDefinition(stack.getItem(), stack.getMetadata()));
+            for (int id : OreDictionary.getOreIDs(stack))
+            {
+                keys.accept(OreDictionary.getOreName(id));
+            }
+        }
+        else if (input instanceof Item)
+        {
+            collectLookupKeys(new ItemStack((Item) input), keys);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package snownee.cuisine.api.process.prefab;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.util.ResourceLocation;
+import snownee.cuisine.api.process.CuisineProcessingRecipe;
+import snownee.cuisine.api.process.RecipeIndexer;
+
+/**
+ * Immutable snapshot of a recipe list, bucketed by the keys provided by a
+ * {@link RecipeIndexer}. Candidates are always visited in the order of the
+ * original list, so that first-match semantic is preserved.
+ */
+final class RecipeIndex<R extends CuisineProcessingRecipe>
+{
+
+    private final RecipeIndexer<R> indexer;
+    private final List<R> recipes;
+    private final Map<Object, int[]> buckets;
+    private final BitSet unindexed;
+    private final Map<ResourceLocation, R> byIdentifier;
+
+    RecipeIndex(RecipeIndexer<R> indexer, List<R> recipes)
+    {
+        this.indexer = indexer;
+        this.recipes = new ArrayList<>(recipes);
+        this.unindexed = new BitSet(this.recipes.size());
+        this.byIdentifier = new HashMap<>(this.recipes.size());
+
+        Map<Object, List<Integer>> builder = new HashMap<>();
+        for (int i = 0; i < this.recipes.size(); i++)
+        {
+            R recipe = this.recipes.get(i);
+            this.byIdentifier.putIfAbsent(recipe.getIdentifier(), recipe);
+            final int index = i;
+            boolean indexed = indexer.collectRecipeKeys(recipe, key -> {
+                List<Integer> bucket = builder.computeIfAbsent(key, k -> new ArrayList<>(4));
+                // A recipe may report the same key more than once
+                if (bucket.isEmpty() || bucket.get(bucket.size() - 1) != index)
+                {
+                    bucket.add(index);
+                }
+            });
+            if (!indexed)
+            {
+                this.unindexed.set(i);
+            }
+        }
+
+        this.buckets = new HashMap<>(builder.size());
+        builder.forEach((key, bucket) -> this.buckets.put(key, bucket.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    @Nullable
+    R findRecipe(ResourceLocation locator)
+    {
+        return byIdentifier.get(locator);
+    }
+
+    @Nullable
+    R findFirst(Object... inputs)
+    {
+        BitSet candidates = candidates(inputs);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
+        {
+            R recipe = recipes.get(i);
+            if (recipe.matches(inputs))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    List<R> findAll(Object... inputs)
+    {
+        List<R> list = new ArrayList<>();
+        BitSet candidates = candidates(inputs);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
+        {
+            R recipe = recipes.get(i);
+            if (recipe.matches(inputs))
+            {
+                list.add(recipe);
+            }
+        }
+        return list;
+    }
+
+    List<R> findCandidates(Object... inputs)
+    {
+        BitSet candidates = candidates(inputs);
+        if (candidates.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+        List<R> list = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
+        {
+            list.add(recipes.get(i));
+        }
+        return list;
+    }
+
+    private BitSet candidates(Object[] inputs)
+    {
+        BitSet candidates = (BitSet) unindexed.clone();
+        indexer.collectInputKeys(inputs, key -> {
+            int[] bucket = buckets.get(key);
+            if (bucket != null)
+            {
+                for (int i : bucket)
+                {
+                    candidates.set(i);
+                }
+            }
+        });
+        return candidates;
+    }
+}
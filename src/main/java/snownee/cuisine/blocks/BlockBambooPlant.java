@@ -37,6 +37,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import snownee.cuisine.CuisineRegistry;
 import snownee.cuisine.items.ItemCrops;
+import snownee.cuisine.world.BambooGroves;
 import snownee.cuisine.world.feature.WorldFeatureBamboo;
 import snownee.kiwi.block.BlockMod;
 
@@ -48,8 +49,6 @@ public class BlockBambooPlant extends BlockMod implements IPlantable, IGrowable
     public static final AxisAlignedBB AABB_SHOOT = new AxisAlignedBB(0.3125D, 0, 0.3125D, 0.6875D, 0.6875D, 0.6875D);
     public static final AxisAlignedBB AABB_LEAVES = new AxisAlignedBB(0.1875D, 0, 0.1875D, 0.8125D, 0.625D, 0.8125D);
 
-    public static long LAST_RAIN_TIME = -12000;
-
     public BlockBambooPlant(String name)
     {
         super(name, Material.PLANTS);
@@ -78,70 +77,72 @@ public class BlockBambooPlant extends BlockMod implements IPlantable, IGrowable
         {
             if (!worldIn.isAreaLoaded(pos, 1))
                 return; // Forge: prevent loading unloaded chunks when checking neighbor's light
-            if (worldIn.isRaining())
+            int ordinal = state.getValue(TYPE).ordinal();
+            if (ordinal < 2)
             {
-                LAST_RAIN_TIME = worldIn.getTotalWorldTime();
+                if (worldIn.getLightFromNeighbors(pos.up()) >= 9 && rand.nextInt(6) == 0 && canGrowIn(worldIn.getBiome(pos)))
+                {
+                    this.grow(worldIn, rand, pos, state);
+                }
             }
-            if (worldIn.getLightFromNeighbors(pos.up()) >= 9 && rand.nextInt(6) == 0)
+            // Only the base of a stalk spreads, check that and the weather before anything costly
+            else if (ordinal < 6 && rand.nextInt(6) == 0 && !worldIn.isRaining() && worldIn.getBlockState(pos.down()).getBlock() != this)
             {
-                Biome biome = worldIn.getBiome(pos);
-                if (!biome.canRain() || biome.isSnowyBiome())
+                BambooGroves groves = BambooGroves.get(worldIn);
+                if (!groves.isAfterRain(worldIn) || worldIn.getLightFromNeighbors(pos.up()) < 9 || !canGrowIn(worldIn.getBiome(pos)) || !worldIn.canSeeSky(pos))
                 {
                     return;
                 }
-                else if (state.getValue(TYPE).ordinal() < 2)
+                for (int i = 1; i < 6; ++i)
                 {
-                    this.grow(worldIn, rand, pos, state);
-                }
-                else if (state.getValue(TYPE).ordinal() < 6 && !worldIn.isRaining() && worldIn.getBlockState(pos.down()).getBlock() != this && worldIn.canSeeSky(pos))
-                {
-                    for (int i = 1; i < 6; ++i)
+                    if (worldIn.getBlockState(pos.up(i)).getBlock() != this)
                     {
-                        if (worldIn.getBlockState(pos.up(i)).getBlock() != this)
-                        {
-                            return;
-                        }
+                        return;
                     }
-                    long interval = worldIn.getTotalWorldTime() - LAST_RAIN_TIME;
-                    if (!worldIn.getGameRules().getBoolean("doWeatherCycle") || (interval > 0 && interval < 9000))
+                }
+                if (groves.tryClaimSpread(worldIn, pos))
+                {
+                    boolean flag = false;
+                    int count = Math.min(1 + rand.nextInt(3), 2);
+                    while (--count != 0)
                     {
-                        boolean flag = false;
-                        int count = Math.min(1 + rand.nextInt(3), 2);
-                        while (--count != 0)
+                        BlockPos position = pos.add(rand.nextInt(7) - 3, 3, rand.nextInt(7) - 3);
+                        IBlockState iblockstate;
+                        for (iblockstate = worldIn.getBlockState(position); iblockstate.getBlock().isReplaceable(worldIn, position) && !(iblockstate.getBlock() instanceof IFluidBlock) && !(iblockstate.getBlock() instanceof BlockLiquid); iblockstate = worldIn.getBlockState(position))
                         {
-                            BlockPos position = pos.add(rand.nextInt(7) - 3, 3, rand.nextInt(7) - 3);
-                            IBlockState iblockstate;
-                            for (iblockstate = worldIn.getBlockState(position); iblockstate.getBlock().isReplaceable(worldIn, position) && !(iblockstate.getBlock() instanceof IFluidBlock) && !(iblockstate.getBlock() instanceof BlockLiquid); iblockstate = worldIn.getBlockState(position))
+                            if (position.getY() + 3 < pos.getY())
                             {
-                                if (position.getY() + 3 < pos.getY())
-                                {
-                                    break;
-                                }
-                                position = position.down();
-                            }
-                            if (!(iblockstate.getBlock() == Blocks.FARMLAND && iblockstate.getValue(BlockFarmland.MOISTURE) == 7) && rand.nextBoolean())
-                            {
-                                continue;
-                            }
-                            position = position.up();
-                            if (canPlaceBlockAt(worldIn, position))
-                            {
-                                worldIn.setBlockState(position, getDefaultState());
-                                worldIn.playEvent(2005, position, 0);
-                                worldIn.playEvent(2001, position, Block.getStateId(getDefaultState()));
-                                flag = true;
+                                break;
                             }
+                            position = position.down();
+                        }
+                        if (!(iblockstate.getBlock() == Blocks.FARMLAND && iblockstate.getValue(BlockFarmland.MOISTURE) == 7) && rand.nextBoolean())
+                        {
+                            continue;
                         }
-                        if (flag)
+                        position = position.up();
+                        if (canPlaceBlockAt(worldIn, position))
                         {
-                            worldIn.setBlockState(pos, state.cycleProperty(TYPE));
+                            worldIn.setBlockState(position, getDefaultState());
+                            worldIn.playEvent(2005, position, 0);
+                            worldIn.playEvent(2001, position, Block.getStateId(getDefaultState()));
+                            flag = true;
                         }
                     }
+                    if (flag)
+                    {
+                        worldIn.setBlockState(pos, state.cycleProperty(TYPE));
+                    }
                 }
             }
         }
     }
 
+    private static boolean canGrowIn(Biome biome)
+    {
+        return biome.canRain() && !biome.isSnowyBiome();
+    }
+
     @Override
     public boolean canGrow(World worldIn, BlockPos pos, IBlockState state, boolean isClient)
     {
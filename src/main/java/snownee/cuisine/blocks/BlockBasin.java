@@ -30,7 +30,6 @@ import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidUtil;
 import net.minecraftforge.fluids.capability.IFluidHandler;
-import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.ItemHandlerHelper;
@@ -202,16 +201,8 @@ public class BlockBasin extends BlockMod
     @Override
     public int getComparatorInputOverride(IBlockState blockState, World worldIn, BlockPos pos)
     {
-        IFluidHandler handler = FluidUtil.getFluidHandler(worldIn, pos, null);
-        if (handler != null && handler.getTankProperties().length > 0)
-        {
-            IFluidTankProperties tank = handler.getTankProperties()[0];
-            if (tank.getContents() != null)
-            {
-                return 1 + tank.getContents().amount * 14 / tank.getCapacity();
-            }
-        }
-        return 0;
+        TileEntity te = worldIn.getTileEntity(pos);
+        return te instanceof TileBasin ? ((TileBasin) te).getComparatorLevel() : 0;
     }
 
     @Override
@@ -39,8 +39,6 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import snownee.cuisine.Cuisine;
 import snownee.cuisine.CuisineConfig;
 import snownee.cuisine.CuisineRegistry;
-import snownee.cuisine.api.CulinaryHub;
-import snownee.cuisine.api.Ingredient;
 import snownee.cuisine.library.UnlistedPropertyItemStack;
 import snownee.cuisine.network.PacketCustomEvent;
 import snownee.cuisine.tiles.TileChoppingBoard;
@@ -190,21 +188,7 @@ public class BlockChoppingBoard extends BlockMod
     public int getComparatorInputOverride(IBlockState blockState, World worldIn, BlockPos pos)
     {
         TileEntity te = worldIn.getTileEntity(pos);
-        if (te instanceof TileChoppingBoard)
-        {
-            TileChoppingBoard teCB = (TileChoppingBoard) te;
-            ItemStack stack = teCB.stacks.getStackInSlot(0);
-            if (stack.isEmpty())
-            {
-                return 0;
-            }
-            Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(stack);
-            if (ingredient != null)
-            {
-                return ingredient.getForm().ordinal() + 1;
-            }
-        }
-        return 0;
+        return te instanceof TileChoppingBoard ? ((TileChoppingBoard) te).getComparatorLevel() : 0;
     }
 
     @Override
@@ -40,6 +40,12 @@ import snownee.kiwi.util.definition.ItemDefinition;
 public class BlockCuisineCrops extends BlockMod implements IGrowable, IPlantable
 {
 
+    /**
+     * Growth chance on moist farmland all around, with no same crops next to it
+     */
+    private static final float MAX_GROWTH_CHANCE = 10.0F;
+    private static final int GROWTH_ROLL_BOUND = (int) (25.0F / MAX_GROWTH_CHANCE) + 1;
+
     private final EnumPlantType plantType;
 
     private final ItemDefinition seed;
@@ -162,13 +168,15 @@ public class BlockCuisineCrops extends BlockMod implements IGrowable, IPlantable
     @Override
     public void updateTick(World worldIn, BlockPos pos, IBlockState state, Random rand)
     {
-        super.updateTick(worldIn, pos, state, rand);
-
         if (!worldIn.isAreaLoaded(pos, 1))
             return; // prevent loading unloaded chunks when checking neighbor's light
         if (getPlantType(worldIn, pos) == EnumPlantType.Water)
         {
             checkAndDropBlock(worldIn, pos, state);
+            if (worldIn.getBlockState(pos) != state)
+            {
+                return;
+            }
         }
         if (worldIn.getLightFromNeighbors(pos.up()) >= 9)
         {
@@ -176,9 +184,7 @@ public class BlockCuisineCrops extends BlockMod implements IGrowable, IPlantable
 
             if (i < this.getMaxAge())
             {
-                float f = getGrowthChance(this, worldIn, pos);
-
-                if (net.minecraftforge.common.ForgeHooks.onCropsGrowPre(worldIn, pos, state, rand.nextInt((int) (25.0F / f) + 1) == 0))
+                if (net.minecraftforge.common.ForgeHooks.onCropsGrowPre(worldIn, pos, state, rollGrowth(worldIn, pos, rand)))
                 {
                     worldIn.setBlockState(pos, this.withAge(i + 1), 2);
                     net.minecraftforge.common.ForgeHooks.onCropsGrowPost(worldIn, pos, state, worldIn.getBlockState(pos));
@@ -187,6 +193,23 @@ public class BlockCuisineCrops extends BlockMod implements IGrowable, IPlantable
         }
     }
 
+    /**
+     * Roll whether the crop grows in this tick, with the same 1 in
+     * <code>25 / chance + 1</code> odds as vanilla crops. Since the chance is
+     * at most {@link #MAX_GROWTH_CHANCE}, the odds are never better than 1 in
+     * {@link #GROWTH_ROLL_BOUND}; that is rolled first, so that the soil and
+     * neighbors are only looked at in the ticks where growing is possible.
+     */
+    protected boolean rollGrowth(World worldIn, BlockPos pos, Random rand)
+    {
+        if (rand.nextInt(GROWTH_ROLL_BOUND) != 0)
+        {
+            return false;
+        }
+        float f = getGrowthChance(this, worldIn, pos);
+        return rand.nextInt((int) (25.0F / f) + 1) < GROWTH_ROLL_BOUND;
+    }
+
     protected static float getGrowthChance(Block blockIn, World worldIn, BlockPos pos)
     {
         float f = 1.0F;
@@ -180,7 +180,7 @@ public class BlockDrinkro extends BlockModHorizontal
                 Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(held);
                 if (ingredient != null && ingredient.getForm() == Form.JUICE)
                 {
-                    tileDrinkro.builder.addIngredient(playerIn, ingredient, tileDrinkro);
+                    tileDrinkro.addIngredient(playerIn, ingredient);
                     ItemStack container = held.getItem().getContainerItem(held);
                     if (!playerIn.isCreative())
                     {
@@ -8,6 +8,7 @@ import javax.annotation.Nullable;
 
 import com.google.common.collect.Lists;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockHorizontal;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.properties.PropertyEnum;
@@ -247,6 +248,17 @@ public class BlockFirePit extends BlockModHorizontal
         return false;
     }
 
+    @Override
+    public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos)
+    {
+        super.neighborChanged(state, worldIn, pos, blockIn, fromPos);
+        TileEntity tile = worldIn.getTileEntity(pos);
+        if (tile instanceof TileFirePit)
+        {
+            ((TileFirePit) tile).wake();
+        }
+    }
+
     @Override
     public void breakBlock(World worldIn, BlockPos pos, IBlockState state)
     {
@@ -420,20 +432,6 @@ public class BlockFirePit extends BlockModHorizontal
     public int getComparatorInputOverride(IBlockState blockState, World worldIn, BlockPos pos)
     {
         TileEntity te = worldIn.getTileEntity(pos);
-        if (te instanceof TileBarbecueRack)
-        {
-            TileBarbecueRack teBR = (TileBarbecueRack) te;
-            int output = 0;
-            for (int i = 0; i < 3; ++i)
-            {
-                ItemStack stack = teBR.stacks.getStackInSlot(i);
-                if (!stack.isEmpty())
-                {
-                    output += teBR.stacks.isItemValid(0, stack) ? 1 : 5;
-                }
-            }
-            return output;
-        }
-        return 0;
+        return te instanceof TileBarbecueRack ? ((TileBarbecueRack) te).getComparatorLevel() : 0;
     }
 }
@@ -64,7 +64,6 @@ public class BlockJar extends BlockMod
             if (!worldIn.isRemote && hand == EnumHand.MAIN_HAND)
             {
                 StacksUtil.dropInventoryItems(worldIn, pos, ((TileJar) te).stacks, true);
-                worldIn.updateComparatorOutputLevel(pos, this);
             }
             else
             {
@@ -84,7 +83,6 @@ public class BlockJar extends BlockMod
                 if (handler != null)
                 {
                     playerIn.setHeldItem(hand, ItemHandlerHelper.insertItemStacked(handler, held, false));
-                    worldIn.updateComparatorOutputLevel(pos, this);
                 }
                 return true;
             }
@@ -195,10 +193,6 @@ public class BlockJar extends BlockMod
     public int getComparatorInputOverride(IBlockState blockState, World worldIn, BlockPos pos)
     {
         TileEntity te = worldIn.getTileEntity(pos);
-        if (te instanceof TileJar && te.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null))
-        {
-            return ItemHandlerHelper.calcRedstoneFromInventory(te.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null));
-        }
-        return 0;
+        return te instanceof TileJar ? ((TileJar) te).getComparatorLevel() : 0;
     }
 }
@@ -1,5 +1,6 @@
 package snownee.cuisine.blocks;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockHorizontal;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.properties.IProperty;
@@ -19,8 +20,6 @@ import net.minecraftforge.common.property.ExtendedBlockState;
 import net.minecraftforge.common.property.IUnlistedProperty;
 import net.minecraftforge.common.property.Properties;
 import net.minecraftforge.fluids.FluidUtil;
-import net.minecraftforge.items.CapabilityItemHandler;
-import net.minecraftforge.items.ItemHandlerHelper;
 import snownee.cuisine.Cuisine;
 import snownee.cuisine.tiles.TileMill;
 import snownee.cuisine.util.StacksUtil;
@@ -97,8 +96,7 @@ public class BlockMill extends BlockModHorizontal
                 {
                     if (!worldIn.isRemote)
                     {
-                        StacksUtil.spawnItemStack(worldIn, pos, ((TileMill) te).getItemContent(), true);
-                        worldIn.updateComparatorOutputLevel(pos, this);
+                        ((TileMill) te).ejectItemContent();
                     }
                 }
                 else
@@ -120,13 +118,23 @@ public class BlockMill extends BlockModHorizontal
             else
             {
                 playerIn.setHeldItem(hand, ((TileMill) te).tryInsertItem(held));
-                worldIn.updateComparatorOutputLevel(pos, this);
             }
         }
 
         return true;
     }
 
+    @Override
+    public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos)
+    {
+        super.neighborChanged(state, worldIn, pos, blockIn, fromPos);
+        TileEntity te = worldIn.getTileEntity(pos);
+        if (te instanceof TileMill)
+        {
+            ((TileMill) te).onNeighborChanged();
+        }
+    }
+
     @Override
     public boolean canPlaceBlockAt(World worldIn, BlockPos pos)
     {
@@ -183,6 +191,7 @@ public class BlockMill extends BlockModHorizontal
         if (tileentity instanceof TileMill)
         {
             StacksUtil.spawnItemStack(worldIn, pos, ((TileMill) tileentity).getItemContent(), true);
+            ((TileMill) tileentity).ejectOutputContent();
             ((TileMill) tileentity).spillFluids();
         }
 
@@ -199,10 +208,6 @@ public class BlockMill extends BlockModHorizontal
     public int getComparatorInputOverride(IBlockState blockState, World worldIn, BlockPos pos)
     {
         TileEntity te = worldIn.getTileEntity(pos);
-        if (te instanceof TileMill && te.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null))
-        {
-            return ItemHandlerHelper.calcRedstoneFromInventory(te.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null));
-        }
-        return 0;
+        return te instanceof TileMill ? ((TileMill) te).getComparatorLevel() : 0;
     }
 }
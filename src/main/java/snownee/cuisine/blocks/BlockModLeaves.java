@@ -52,6 +52,7 @@ import snownee.cuisine.CuisineRegistry;
 import snownee.cuisine.blocks.BlockModSapling.Type;
 import snownee.cuisine.items.ItemBasicFood;
 import snownee.cuisine.library.RarityManager;
+import snownee.cuisine.tiles.FruitTreeCores;
 import snownee.cuisine.tiles.TileFruitTree;
 import snownee.cuisine.util.StacksUtil;
 import snownee.kiwi.block.BlockMod;
@@ -64,7 +65,6 @@ public class BlockModLeaves extends BlockMod implements IGrowable, IShearable
     public static final PropertyInteger AGE = PropertyInteger.create("age", 0, 3);
 
     private final ItemBasicFood.Variant fruit;
-    private static int[] surroundings;
     public static boolean passable = false;
 
     static
@@ -201,7 +201,11 @@ public class BlockModLeaves extends BlockMod implements IGrowable, IShearable
         }
         else
         {
-            worldIn.setBlockState(pos, state.cycleProperty(AGE));
+            state = state.cycleProperty(AGE);
+            if (worldIn.setBlockState(pos, state) && state.getValue(AGE) == 3)
+            {
+                FruitTreeCores.onRipened(worldIn, pos);
+            }
         }
     }
 
@@ -374,6 +378,12 @@ public class BlockModLeaves extends BlockMod implements IGrowable, IShearable
     @Override
     public void breakBlock(World worldIn, BlockPos pos, IBlockState state)
     {
+        if (LeafDecay.isDecaying(worldIn))
+        {
+            // The whole canopy is going away, only leaves outside of it need a check
+            LeafDecay.beginOuterLeavesDecay(worldIn, pos);
+            return;
+        }
         int k = pos.getX();
         int l = pos.getY();
         int i1 = pos.getZ();
@@ -406,105 +416,7 @@ public class BlockModLeaves extends BlockMod implements IGrowable, IShearable
         {
             if (state.getValue(BlockLeaves.CHECK_DECAY))
             {
-                int k = pos.getX();
-                int l = pos.getY();
-                int i1 = pos.getZ();
-                if (BlockModLeaves.surroundings == null)
-                {
-                    BlockModLeaves.surroundings = new int[32768];
-                }
-
-                if (!worldIn.isAreaLoaded(pos, 1))
-                    return; // Forge: prevent decaying leaves from updating neighbors and loading unloaded chunks
-                if (worldIn.isAreaLoaded(pos, 6)) // Forge: extend range from 5 to 6 to account for neighbor checks in world.markAndNotifyBlock -> world.updateObservingBlocksAt
-                {
-                    BlockPos.MutableBlockPos blockpos$mutableblockpos = new BlockPos.MutableBlockPos();
-
-                    for (int i2 = -4; i2 <= 4; ++i2)
-                    {
-                        for (int j2 = -4; j2 <= 4; ++j2)
-                        {
-                            for (int k2 = -4; k2 <= 4; ++k2)
-                            {
-                                IBlockState iblockstate = worldIn.getBlockState(blockpos$mutableblockpos.setPos(k + i2, l + j2, i1 + k2));
-                                Block block = iblockstate.getBlock();
-
-                                if (!block.canSustainLeaves(iblockstate, worldIn, blockpos$mutableblockpos.setPos(k + i2, l + j2, i1 + k2)))
-                                {
-                                    if (block.isLeaves(iblockstate, worldIn, blockpos$mutableblockpos.setPos(k + i2, l + j2, i1 + k2)))
-                                    {
-                                        BlockModLeaves.surroundings[(i2 + 16) * 1024 + (j2 + 16) * 32 + k2 + 16] = -2;
-                                    }
-                                    else
-                                    {
-                                        BlockModLeaves.surroundings[(i2 + 16) * 1024 + (j2 + 16) * 32 + k2 + 16] = -1;
-                                    }
-                                }
-                                else
-                                {
-                                    BlockModLeaves.surroundings[(i2 + 16) * 1024 + (j2 + 16) * 32 + k2 + 16] = 0;
-                                }
-                            }
-                        }
-                    }
-
-                    for (int i3 = 1; i3 <= 4; ++i3)
-                    {
-                        for (int j3 = -4; j3 <= 4; ++j3)
-                        {
-                            for (int k3 = -4; k3 <= 4; ++k3)
-                            {
-                                for (int l3 = -4; l3 <= 4; ++l3)
-                                {
-                                    if (BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16) * 32 + l3 + 16] == i3 - 1)
-                                    {
-                                        if (BlockModLeaves.surroundings[(j3 + 16 - 1) * 1024 + (k3 + 16) * 32 + l3 + 16] == -2)
-                                        {
-                                            BlockModLeaves.surroundings[(j3 + 16 - 1) * 1024 + (k3 + 16) * 32 + l3 + 16] = i3;
-                                        }
-
-                                        if (BlockModLeaves.surroundings[(j3 + 16 + 1) * 1024 + (k3 + 16) * 32 + l3 + 16] == -2)
-                                        {
-                                            BlockModLeaves.surroundings[(j3 + 16 + 1) * 1024 + (k3 + 16) * 32 + l3 + 16] = i3;
-                                        }
-
-                                        if (BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16 - 1) * 32 + l3 + 16] == -2)
-                                        {
-                                            BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16 - 1) * 32 + l3 + 16] = i3;
-                                        }
-
-                                        if (BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16 + 1) * 32 + l3 + 16] == -2)
-                                        {
-                                            BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16 + 1) * 32 + l3 + 16] = i3;
-                                        }
-
-                                        if (BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16) * 32 + (l3 + 16 - 1)] == -2)
-                                        {
-                                            BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16) * 32 + (l3 + 16 - 1)] = i3;
-                                        }
-
-                                        if (BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16) * 32 + l3 + 16 + 1] == -2)
-                                        {
-                                            BlockModLeaves.surroundings[(j3 + 16) * 1024 + (k3 + 16) * 32 + l3 + 16 + 1] = i3;
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-
-                int l2 = BlockModLeaves.surroundings[16912];
-
-                if (l2 >= 0)
-                {
-                    worldIn.setBlockState(pos, state.withProperty(BlockLeaves.CHECK_DECAY, false), 4);
-                }
-                else
-                {
-                    this.dropBlockAsItem(worldIn, pos, state, 0);
-                    worldIn.setBlockToAir(pos);
-                }
+                LeafDecay.check(worldIn, pos, state);
             }
             else if (canGrow(worldIn, pos, state, false) && worldIn.isAreaLoaded(pos, 1) && worldIn.getLightFromNeighbors(pos.up()) >= 9)
             {
@@ -535,14 +447,8 @@ public class BlockModLeaves extends BlockMod implements IGrowable, IShearable
         super.onFallenUpon(worldIn, pos, entityIn, fallDistance);
         if (!worldIn.isRemote && fallDistance >= 1 && entityIn instanceof EntityLivingBase)
         {
-            for (BlockPos pos2 : BlockPos.getAllInBoxMutable(pos.getX() - 1, Math.max(0, pos.getY() - 2), pos.getZ() - 1, pos.getX() + 1, pos.getY(), pos.getZ() + 1))
-            {
-                IBlockState state = worldIn.getBlockState(pos2);
-                if (state.getBlock() instanceof BlockModLeaves && state.getValue(AGE) == 3)
-                {
-                    ((BlockModLeaves) state.getBlock()).grow(worldIn, worldIn.rand, pos2, state);
-                }
-            }
+            BlockPos from = new BlockPos(pos.getX() - 1, Math.max(0, pos.getY() - 2), pos.getZ() - 1);
+            FruitTreeCores.forEachRipeLeaf(worldIn, from, pos.add(1, 0, 1), (pos2, state) -> ((BlockModLeaves) state.getBlock()).grow(worldIn, worldIn.rand, pos2, state));
         }
     }
 
@@ -565,51 +471,42 @@ public class BlockModLeaves extends BlockMod implements IGrowable, IShearable
             {
                 return;
             }
-            for (BlockPos pos2 : BlockPos.getAllInBoxMutable(pos.getX() - 3, pos.getY() - 3, pos.getZ() - 3, pos.getX() + 3, pos.getY() + 3, pos.getZ() + 3))
-            {
-                IBlockState state2 = worldIn.getBlockState(pos2);
-                if (state2.getBlock() == this && state2.getValue(AGE) == 3)
+            FruitTreeCores.forEachRipeLeaf(worldIn, pos.add(-3, -3, -3), pos.add(3, 3, 3), (pos2, state2) -> {
+                if (state2.getBlock() != this)
                 {
-                    worldIn.setBlockState(pos2, onPassiveGathered(worldIn, pos2, state2));
-                    if (worldIn.getGameRules().getBoolean("doTileDrops") && !worldIn.restoringBlockSnapshots) // do not drop items while restoring blockstates, prevents item dupe
+                    return;
+                }
+                worldIn.setBlockState(pos2, onPassiveGathered(worldIn, pos2, state2));
+                if (worldIn.getGameRules().getBoolean("doTileDrops") && !worldIn.restoringBlockSnapshots) // do not drop items while restoring blockstates, prevents item dupe
+                {
+                    ItemStack stack = getDrop(ItemBasicFood.Variant.EMPOWERED_CITRON);
+                    if (captureDrops.get())
                     {
-                        ItemStack stack = getDrop(ItemBasicFood.Variant.EMPOWERED_CITRON);
-                        if (captureDrops.get())
-                        {
-                            capturedDrops.get().add(stack);
-                            continue;
-                        }
-                        double d0 = worldIn.rand.nextFloat() * 0.5F + 0.25D;
-                        double d1 = worldIn.rand.nextFloat() * 0.5F + 0.25D;
-                        double d2 = worldIn.rand.nextFloat() * 0.5F + 0.25D;
-                        EntityItem entityitem = new EntityItem(worldIn, pos2.getX() + d0, pos2.getY() + d1, pos2.getZ() + d2, stack);
-                        entityitem.setDefaultPickupDelay();
-                        entityitem.setEntityInvulnerable(true);
-                        worldIn.spawnEntity(entityitem);
-                        EntityBat bat = new EntityBat(worldIn);
-                        bat.setPosition(pos2.getX() + d0, pos2.getY() + d1, pos2.getZ() + d2);
-                        bat.addPotionEffect(new PotionEffect(MobEffects.RESISTANCE, 200, 10));
-                        bat.setCustomNameTag("ForestBat");
-                        bat.setAlwaysRenderNameTag(true);
-                        worldIn.spawnEntity(bat);
+                        capturedDrops.get().add(stack);
+                        return;
                     }
+                    double d0 = worldIn.rand.nextFloat() * 0.5F + 0.25D;
+                    double d1 = worldIn.rand.nextFloat() * 0.5F + 0.25D;
+                    double d2 = worldIn.rand.nextFloat() * 0.5F + 0.25D;
+                    EntityItem entityitem = new EntityItem(worldIn, pos2.getX() + d0, pos2.getY() + d1, pos2.getZ() + d2, stack);
+                    entityitem.setDefaultPickupDelay();
+                    entityitem.setEntityInvulnerable(true);
+                    worldIn.spawnEntity(entityitem);
+                    EntityBat bat = new EntityBat(worldIn);
+                    bat.setPosition(pos2.getX() + d0, pos2.getY() + d1, pos2.getZ() + d2);
+                    bat.addPotionEffect(new PotionEffect(MobEffects.RESISTANCE, 200, 10));
+                    bat.setCustomNameTag("ForestBat");
+                    bat.setAlwaysRenderNameTag(true);
+                    worldIn.spawnEntity(bat);
                 }
-            }
+            });
         }
     }
 
     private IBlockState onPassiveGathered(World world, BlockPos pos, IBlockState state)
     {
-        int death = 30;
-        for (BlockPos pos2 : BlockPos.getAllInBoxMutable(pos.getX() - 2, pos.getY(), pos.getZ() - 2, pos.getX() + 2, pos.getY() + 2 + 1, pos.getZ() + 2))
-        {
-            TileEntity tile = world.getTileEntity(pos2);
-            if (tile instanceof TileFruitTree)
-            {
-                death = ((TileFruitTree) tile).updateDeathRate();
-                break;
-            }
-        }
+        TileFruitTree tree = FruitTreeCores.findOwner(world, pos);
+        int death = tree != null ? tree.updateDeathRate() : 30;
         if (death >= 50 || world.rand.nextInt(50) < death)
         {
             return state.withProperty(AGE, 0);
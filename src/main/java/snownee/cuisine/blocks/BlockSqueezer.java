@@ -71,6 +71,15 @@ public class BlockSqueezer extends BlockMod
             if (!(fromState.getBlock() instanceof BlockBasin))
             {
                 world.setBlockState(pos, Blocks.PISTON.getDefaultState().withProperty(BlockDirectional.FACING, EnumFacing.DOWN));
+                return;
+            }
+        }
+        if (!world.isRemote)
+        {
+            TileEntity tile = world.getTileEntity(pos);
+            if (tile instanceof TileSqueezer)
+            {
+                ((TileSqueezer) tile).neighborChanged();
             }
         }
     }
@@ -0,0 +1,291 @@
+package snownee.cuisine.blocks;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockLeaves;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/**
+ * Decides whether the leaves of a fruit tree should decay. Unlike the vanilla
+ * scan which reads every block in a 9x9x9 cube and then propagates distances
+ * over all of them four times, this walks the leaves connected to the checked
+ * one breadth first and stops at the first log that is close enough.
+ * <p>
+ * A leaf is kept if a log that can sustain leaves is at most
+ * {@link #SUSTAIN_DISTANCE} steps away through other leaves, the same rule
+ * vanilla uses. If the walk runs out of leaves without ever touching a log,
+ * nothing in the whole canopy can be sustained, so all of it is decayed in
+ * one go instead of one leaf per random tick.
+ *
+ * 果树树叶的腐烂判定：从树叶出发广度优先搜索，找到原木即停止；整片孤立的树冠会一次性腐烂。
+ */
+final class LeafDecay
+{
+    static final int SUSTAIN_DISTANCE = 4;
+    /**
+     * How far the walk may go to find out whether a canopy is disconnected
+     */
+    private static final int RADIUS = 6;
+    private static final int SIZE = RADIUS * 2 + 1;
+    private static final int[] OFFSETS = { SIZE * SIZE, -SIZE * SIZE, SIZE, -SIZE, 1, -1 };
+
+    private static final Map<World, LeafDecay> INSTANCES = new WeakHashMap<>();
+
+    /**
+     * Search generation of each cell, so that the buffer never has to be
+     * cleared between two searches
+     */
+    private final int[] visited = new int[SIZE * SIZE * SIZE];
+    private final int[] distance = new int[SIZE * SIZE * SIZE];
+    private final int[] queue = new int[SIZE * SIZE * SIZE];
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private int generation;
+    private boolean decaying;
+    private BlockPos origin = BlockPos.ORIGIN;
+
+    private Chunk chunk;
+
+    private LeafDecay()
+    {
+    }
+
+    /**
+     * @return The scratch buffers of given world. Worlds may tick on different
+     *         threads, but a world only ever ticks on one
+     */
+    private static LeafDecay of(World world)
+    {
+        synchronized (INSTANCES)
+        {
+            return INSTANCES.computeIfAbsent(world, k -> new LeafDecay());
+        }
+    }
+
+    /**
+     * @return true if given world is removing a whole canopy, in which case
+     *         removed leaves need not ask their neighbors to check for decay
+     */
+    static boolean isDecaying(World world)
+    {
+        synchronized (INSTANCES)
+        {
+            LeafDecay decay = INSTANCES.get(world);
+            return decay != null && decay.decaying;
+        }
+    }
+
+    /**
+     * Called by leaves removed while a canopy is decaying. The leaves around
+     * that are not part of the canopy, e.g. the ones only touching it
+     * diagonally, are still asked to check for decay, as vanilla does.
+     */
+    static void beginOuterLeavesDecay(World world, BlockPos pos)
+    {
+        LeafDecay decay;
+        synchronized (INSTANCES)
+        {
+            decay = INSTANCES.get(world);
+        }
+        if (decay == null || !decay.decaying)
+        {
+            return;
+        }
+        for (BlockPos.MutableBlockPos neighborPos : BlockPos.getAllInBoxMutable(pos.add(-1, -1, -1), pos.add(1, 1, 1)))
+        {
+            if (decay.isInCanopy(neighborPos))
+            {
+                continue; // Removed in the same batch
+            }
+            IBlockState neighbor = world.getBlockState(neighborPos);
+            if (neighbor.getBlock().isLeaves(neighbor, world, neighborPos))
+            {
+                neighbor.getBlock().beginLeavesDecay(neighbor, world, neighborPos.toImmutable());
+            }
+        }
+    }
+
+    /**
+     * @return true if given position has been walked by the last search.
+     *         Leaves walked are exactly the ones being decayed; the other
+     *         cells walked were not leaves
+     */
+    private boolean isInCanopy(BlockPos pos)
+    {
+        int dx = pos.getX() - origin.getX(), dy = pos.getY() - origin.getY(), dz = pos.getZ() - origin.getZ();
+        return Math.abs(dx) <= RADIUS && Math.abs(dy) <= RADIUS && Math.abs(dz) <= RADIUS && visited[index(dx, dy, dz)] == generation;
+    }
+
+    /**
+     * Check the leaf at given position, which should have
+     * {@link BlockLeaves#CHECK_DECAY} set, and either clear the flag or decay
+     * it, along with its canopy if possible.
+     */
+    static void check(World world, BlockPos pos, IBlockState state)
+    {
+        if (!world.isAreaLoaded(pos, 1))
+        {
+            return; // Forge: prevent decaying leaves from updating neighbors and loading unloaded chunks
+        }
+        // Leaves decayed in batch notify their neighbors, and observers one block further
+        if (!world.isAreaLoaded(pos, RADIUS + 2))
+        {
+            return;
+        }
+        LeafDecay decay = of(world);
+        if (decay.decaying)
+        {
+            return;
+        }
+        decay.run(world, pos, state);
+    }
+
+    private void run(World world, BlockPos origin, IBlockState state)
+    {
+        if (++generation == 0)
+        {
+            Arrays.fill(visited, 0);
+            generation = 1;
+        }
+        chunk = null;
+        this.origin = origin;
+        int center = index(0, 0, 0);
+        visited[center] = generation;
+        distance[center] = 0;
+        queue[0] = center;
+        int head = 0, tail = 1;
+        boolean enclosed = true;
+
+        search:
+        while (head < tail)
+        {
+            int cell = queue[head++];
+            int dx = cell / (SIZE * SIZE) - RADIUS;
+            int dy = cell / SIZE % SIZE - RADIUS;
+            int dz = cell % SIZE - RADIUS;
+            for (int i = 0; i < 6; i++)
+            {
+                int x = dx, y = dy, z = dz;
+                switch (i)
+                {
+                case 0:
+                    ++x;
+                    break;
+                case 1:
+                    --x;
+                    break;
+                case 2:
+                    ++y;
+                    break;
+                case 3:
+                    --y;
+                    break;
+                case 4:
+                    ++z;
+                    break;
+                default:
+                    --z;
+                }
+                if (Math.abs(x) > RADIUS || Math.abs(y) > RADIUS || Math.abs(z) > RADIUS)
+                {
+                    // The canopy may go on beyond what we are allowed to look at
+                    enclosed = false;
+                    break search;
+                }
+                int next = cell + OFFSETS[i];
+                if (visited[next] == generation)
+                {
+                    continue;
+                }
+                visited[next] = generation;
+                cursor.setPos(origin.getX() + x, origin.getY() + y, origin.getZ() + z);
+                IBlockState neighbor = getBlockState(world, cursor);
+                Block block = neighbor.getBlock();
+                if (block.canSustainLeaves(neighbor, world, cursor))
+                {
+                    if (distance[cell] < SUSTAIN_DISTANCE)
+                    {
+                        world.setBlockState(origin, state.withProperty(BlockLeaves.CHECK_DECAY, false), 4);
+                        return;
+                    }
+                    // Cells are visited by distance, no closer log is left
+                    enclosed = false;
+                    break search;
+                }
+                if (block.isLeaves(neighbor, world, cursor))
+                {
+                    distance[next] = distance[cell] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        if (!enclosed)
+        {
+            state.getBlock().dropBlockAsItem(world, origin, state, 0);
+            world.setBlockToAir(origin);
+            return;
+        }
+
+        decaying = true;
+        try
+        {
+            for (int i = 0; i < tail; i++)
+            {
+                int cell = queue[i];
+                cursor.setPos(origin.getX() + cell / (SIZE * SIZE) - RADIUS, origin.getY() + cell / SIZE % SIZE - RADIUS, origin.getZ() + cell % SIZE - RADIUS);
+                IBlockState leaves = world.getBlockState(cursor);
+                if (leaves.getBlock() instanceof BlockModLeaves)
+                {
+                    leaves.getBlock().dropBlockAsItem(world, cursor, leaves, 0);
+                    world.setBlockToAir(cursor);
+                }
+                else if (leaves.getBlock().isLeaves(leaves, world, cursor))
+                {
+                    // Leave other kinds of leaves to their own rules
+                    leaves.getBlock().beginLeavesDecay(leaves, world, cursor.toImmutable());
+                }
+            }
+        }
+        finally
+        {
+            decaying = false;
+            chunk = null;
+        }
+    }
+
+    private static int index(int dx, int dy, int dz)
+    {
+        return ((dx + RADIUS) * SIZE + dy + RADIUS) * SIZE + dz + RADIUS;
+    }
+
+    /**
+     * Read a block state right out of the chunk section, skipping the checks
+     * in {@link World#getBlockState} which the area check has already done.
+     */
+    private IBlockState getBlockState(World world, BlockPos pos)
+    {
+        if (world.isOutsideBuildHeight(pos))
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+        int chunkX = pos.getX() >> 4, chunkZ = pos.getZ() >> 4;
+        if (chunk == null || chunk.x != chunkX || chunk.z != chunkZ)
+        {
+            chunk = world.getChunk(chunkX, chunkZ);
+        }
+        ExtendedBlockStorage storage = chunk.getBlockStorageArray()[pos.getY() >> 4];
+        if (storage == Chunk.NULL_BLOCK_STORAGE)
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+        return storage.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+}
@@ -151,7 +151,7 @@ public class OreDictHandler
             return v -> {
                 boolean loaded = Loader.isModLoaded("vanillafoodpantry");
                 ItemStack stack = item.getItemStack(v);
-                Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(stack);
+                Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stack);
                 if (ingredient != null)
                 {
                     for (MaterialCategory category : MaterialCategory.values())
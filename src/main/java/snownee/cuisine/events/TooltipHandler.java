@@ -52,18 +52,18 @@ public final class TooltipHandler
 
             for (Ingredient ingredientIn : composite.getIngredients())
             {
-                i += ingredientIn.getMaterial().getCategories().size();
-                if (ingredientIn.getEffects().contains(CulinaryHub.CommonEffects.RARE))
+                i += Integer.bitCount(ingredientIn.getCategoryMask());
+                if (ingredientIn.hasEffect(CulinaryHub.CommonEffects.RARE))
                 {
                     ++i;
                 }
             }
         }
-        else if ((ingredient = CulinaryHub.API_INSTANCE.findIngredient(stack)) != null)
+        else if ((ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stack)) != null)
         {
             // add categories line
-            i = ingredient.getMaterial().getCategories().size();
-            if (ingredient.getEffects().contains(CulinaryHub.CommonEffects.RARE))
+            i = Integer.bitCount(ingredient.getCategoryMask());
+            if (ingredient.hasEffect(CulinaryHub.CommonEffects.RARE))
             {
                 ++i;
             }
@@ -162,7 +162,7 @@ public final class TooltipHandler
                 {
                     map.put(category, map.getOrDefault(category, 0D) + 1);
                 }
-                if (ingredientIn.getEffects().contains(CulinaryHub.CommonEffects.RARE))
+                if (ingredientIn.hasEffect(CulinaryHub.CommonEffects.RARE))
                 {
                     map.put(MaterialCategory.UNKNOWN, map.getOrDefault(MaterialCategory.UNKNOWN, 0D) + 1);
                 }
@@ -178,7 +178,7 @@ public final class TooltipHandler
                 GlStateManager.popMatrix();
             }
         }
-        else if ((ingredient = CulinaryHub.API_INSTANCE.findIngredient(stack)) != null)
+        else if ((ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stack)) != null)
         {
             GlStateManager.pushMatrix();
             GlStateManager.color(1F, 1F, 1F);
@@ -195,7 +195,7 @@ public final class TooltipHandler
                 {
                     map.put(category, map.getOrDefault(category, 0D) + 1);
                 }
-                if (ingredient.getEffects().contains(CulinaryHub.CommonEffects.RARE))
+                if (ingredient.hasEffect(CulinaryHub.CommonEffects.RARE))
                 {
                     map.put(MaterialCategory.UNKNOWN, map.getOrDefault(MaterialCategory.UNKNOWN, 0D) + 1);
                 }
@@ -0,0 +1,606 @@
+package snownee.cuisine.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.inventory.Slot;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent;
+import net.minecraftforge.fml.common.network.FMLNetworkEvent;
+import snownee.cuisine.Cuisine;
+import snownee.cuisine.CuisineConfig;
+import snownee.cuisine.api.CompositeFood;
+import snownee.cuisine.api.CulinaryCapabilities;
+import snownee.cuisine.api.CulinaryHub;
+import snownee.cuisine.api.Effect;
+import snownee.cuisine.api.FoodContainer;
+import snownee.cuisine.api.Form;
+import snownee.cuisine.api.Material;
+import snownee.cuisine.api.Spice;
+import snownee.cuisine.internal.food.Dish;
+import snownee.cuisine.network.PacketFoodDetailsRequest;
+import snownee.cuisine.network.PacketFoodIdTable;
+import snownee.kiwi.network.NetworkChannel;
+
+/**
+ * Wire format of {@link CompositeFood} used by item share tags. Registry names
+ * of materials, spices and effects are replaced by numeric IDs assigned by
+ * {@link IdentifierBasedRegistry}; the server sends its ID table to each
+ * client upon login, so that both sides don't need to agree on registration
+ * order.
+ * <p>
+ * Encoding works on the output of {@link CulinaryHub#API_INSTANCE}'s serializer,
+ * and decoding restores the exact same layout, so that any registered food type
+ * works without knowing about this class.
+ *
+ * 物品共享标签使用的 CompositeFood 压缩格式。
+ */
+@Mod.EventBusSubscriber(modid = Cuisine.MODID)
+public final class CompactFoodCodec
+{
+
+    public enum Mode
+    {
+        /**
+         * Sync the same data as saved ones.
+         */
+        FULL,
+        /**
+         * Sync everything, with registry names replaced by numeric IDs.
+         */
+        COMPACT,
+        /**
+         * Sync only what the client renders; the rest are sent on demand.
+         */
+        MINIMAL
+    }
+
+    private static final byte FORMAT_COMPACT = 1;
+    private static final byte FORMAT_MINIMAL = 2;
+
+    private static final Form[] FORMS = Form.values();
+    private static final int DETAILS_CACHE_SIZE = 64;
+
+    private static WireTable localTable;
+    /**
+     * ID table of the server the client is currently connected to.
+     */
+    private static WireTable remoteTable;
+
+    /**
+     * Foods decoded from minimal data, mapped to the digest of their full data.
+     */
+    private static final Map<CompositeFood, Integer> PARTIAL_FOODS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<Integer, CompositeFood> DETAILS = Collections.synchronizedMap(new LinkedHashMap<Integer, CompositeFood>(16, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CompositeFood> eldest)
+        {
+            return size() > DETAILS_CACHE_SIZE;
+        }
+    });
+    private static final IntSet REQUESTED = new IntOpenHashSet();
+
+    private CompactFoodCodec()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    static void invalidateLocalTable()
+    {
+        localTable = null;
+    }
+
+    private static WireTable localTable()
+    {
+        WireTable table = localTable;
+        if (table == null)
+        {
+            CuisineInternalGateway api = CuisineInternalGateway.INSTANCE;
+            localTable = table = new WireTable(api.getMaterialRegistry().getIdentifiers(), api.getSpiceRegistry().getIdentifiers(), api.getEffectRegistry().getIdentifiers());
+        }
+        return table;
+    }
+
+    /**
+     * On client side, the peer is always the server, whose table may differ
+     * from ours.
+     */
+    private static WireTable peerTable()
+    {
+        WireTable table = remoteTable;
+        if (table != null && FMLCommonHandler.instance().getEffectiveSide().isClient())
+        {
+            return table;
+        }
+        return localTable();
+    }
+
+    public static List<List<String>> getLocalIdentifiers()
+    {
+        CuisineInternalGateway api = CuisineInternalGateway.INSTANCE;
+        List<List<String>> tables = new ArrayList<>(3);
+        tables.add(api.getMaterialRegistry().getIdentifiers());
+        tables.add(api.getSpiceRegistry().getIdentifiers());
+        tables.add(api.getEffectRegistry().getIdentifiers());
+        return tables;
+    }
+
+    /**
+     * Called on client side when the ID table of server arrives.
+     */
+    public static void acceptRemoteTable(List<String> materials, List<String> spices, List<String> effects)
+    {
+        remoteTable = new WireTable(materials, spices, effects);
+        clearDetails();
+    }
+
+    private static void clearDetails()
+    {
+        PARTIAL_FOODS.clear();
+        DETAILS.clear();
+        synchronized (REQUESTED)
+        {
+            REQUESTED.clear();
+        }
+    }
+
+    /**
+     * Encode given food for network transfer.
+     *
+     * @param food The food to encode
+     * @param mode The mode of encoding; {@link Mode#MINIMAL} is only honored on server side
+     * @return The encoded data, which is the plain serialized data if nothing could be compacted
+     */
+    public static NBTTagCompound encode(CompositeFood food, Mode mode)
+    {
+        boolean client = FMLCommonHandler.instance().getEffectiveSide().isClient();
+        if (client)
+        {
+            // Client only sends food back in creative mode; never make it lose details
+            food = getDetails(food, false);
+            if (mode == Mode.MINIMAL)
+            {
+                mode = Mode.COMPACT;
+            }
+            // No table from the server, e.g. it syncs in FULL mode: our IDs mean nothing to it
+            if (remoteTable == null)
+            {
+                mode = Mode.FULL;
+            }
+        }
+        NBTTagCompound full = CulinaryHub.API_INSTANCE.serialize(food);
+        if (mode == Mode.FULL)
+        {
+            return full;
+        }
+        NBTTagCompound data = compact(full, peerTable());
+        if (data == null)
+        {
+            return full;
+        }
+        if (mode == Mode.MINIMAL)
+        {
+            minimize(food, data, peerTable());
+        }
+        return data;
+    }
+
+    /**
+     * Restore data produced by {@link #encode(CompositeFood, Mode)} to the layout
+     * accepted by deserializers.
+     *
+     * @return The restored data; plain serialized data are returned as-is
+     */
+    public static NBTTagCompound decode(NBTTagCompound data)
+    {
+        if (!data.hasKey(CuisineSharedSecrets.KEY_FORMAT, Constants.NBT.TAG_BYTE))
+        {
+            return data;
+        }
+        WireTable table = peerTable();
+        NBTTagCompound full = data.copy();
+        full.removeTag(CuisineSharedSecrets.KEY_FORMAT);
+        full.removeTag(CuisineSharedSecrets.KEY_DIGEST);
+
+        if (data.hasKey(CuisineSharedSecrets.KEY_INGREDIENT_LIST, Constants.NBT.TAG_INT_ARRAY))
+        {
+            int[] values = data.getIntArray(CuisineSharedSecrets.KEY_INGREDIENT_LIST);
+            NBTTagList list = new NBTTagList();
+            int i = 0;
+            while (i + 4 < values.length)
+            {
+                Material material = table.materials.get(values[i]);
+                Form form = values[i + 1] >= 0 && values[i + 1] < FORMS.length ? FORMS[values[i + 1]] : null;
+                int doneness = values[i + 2];
+                int traits = values[i + 3];
+                int effectCount = values[i + 4];
+                i += 5;
+                NBTTagList effectList = new NBTTagList();
+                for (int j = 0; j < effectCount && i < values.length; j++, i++)
+                {
+                    Effect effect = table.effects.get(values[i]);
+                    if (effect != null)
+                    {
+                        effectList.appendTag(new NBTTagString(effect.getID()));
+                    }
+                }
+                if (material == null || form == null)
+                {
+                    continue;
+                }
+                NBTTagCompound ingredient = new NBTTagCompound();
+                ingredient.setString(CuisineSharedSecrets.KEY_MATERIAL, material.getID());
+                ingredient.setString(CuisineSharedSecrets.KEY_FORM, form.name());
+                ingredient.setInteger(CuisineSharedSecrets.KEY_DONENESS, doneness);
+                IntList traitIds = new IntArrayList();
+                for (int bit = 0; bit < Integer.SIZE; bit++)
+                {
+                    if ((traits & (1 << bit)) != 0)
+                    {
+                        traitIds.add(bit);
+                    }
+                }
+                ingredient.setIntArray(CuisineSharedSecrets.KEY_TRAITS, traitIds.toIntArray());
+                ingredient.setTag(CuisineSharedSecrets.KEY_EFFECT_LIST, effectList);
+                list.appendTag(ingredient);
+            }
+            full.setTag(CuisineSharedSecrets.KEY_INGREDIENT_LIST, list);
+        }
+
+        if (data.hasKey(CuisineSharedSecrets.KEY_SEASONING_LIST, Constants.NBT.TAG_INT_ARRAY))
+        {
+            int[] values = data.getIntArray(CuisineSharedSecrets.KEY_SEASONING_LIST);
+            NBTTagList list = new NBTTagList();
+            for (int i = 0; i + 1 < values.length; i += 2)
+            {
+                Spice spice = table.spices.get(values[i]);
+                if (spice != null)
+                {
+                    NBTTagCompound seasoning = new NBTTagCompound();
+                    seasoning.setString(CuisineSharedSecrets.KEY_SPICE, spice.getID());
+                    seasoning.setInteger(CuisineSharedSecrets.KEY_QUANTITY, values[i + 1]);
+                    list.appendTag(seasoning);
+                }
+            }
+            full.setTag(CuisineSharedSecrets.KEY_SEASONING_LIST, list);
+        }
+
+        if (data.hasKey(CuisineSharedSecrets.KEY_EFFECT_LIST, Constants.NBT.TAG_INT_ARRAY))
+        {
+            full.setTag(CuisineSharedSecrets.KEY_EFFECT_LIST, expandEffects(table, data.getIntArray(CuisineSharedSecrets.KEY_EFFECT_LIST)));
+        }
+        return full;
+    }
+
+    /**
+     * Decode data produced by {@link #encode(CompositeFood, Mode)} into a food object.
+     */
+    @Nullable
+    public static CompositeFood decodeFood(NBTTagCompound data)
+    {
+        NBTTagCompound full = decode(data);
+        ResourceLocation id = new ResourceLocation(full.getString(CuisineSharedSecrets.KEY_TYPE));
+        CompositeFood food = CulinaryHub.API_INSTANCE.deserialize(id, full);
+        if (food == null)
+        {
+            // Backward compatibility: assume failed-to-load data are from previous version.
+            // See TileDish.readFromNBT for more info
+            food = Dish.deserialize(full);
+        }
+        if (data.getByte(CuisineSharedSecrets.KEY_FORMAT) == FORMAT_MINIMAL)
+        {
+            PARTIAL_FOODS.put(food, data.getInteger(CuisineSharedSecrets.KEY_DIGEST));
+        }
+        return food;
+    }
+
+    /**
+     * Client only. Find the complete version of a food decoded from minimal data.
+     *
+     * @param food The food from share tag
+     * @param request Whether to request details from server if they are absent
+     * @return The complete food if known, or the given food otherwise
+     */
+    public static CompositeFood getDetails(CompositeFood food, boolean request)
+    {
+        Integer digest = PARTIAL_FOODS.get(food);
+        if (digest == null)
+        {
+            return food;
+        }
+        CompositeFood details = DETAILS.get(digest);
+        if (details != null)
+        {
+            return details;
+        }
+        if (request)
+        {
+            boolean absent;
+            synchronized (REQUESTED)
+            {
+                absent = REQUESTED.add(digest.intValue());
+            }
+            if (absent)
+            {
+                NetworkChannel.INSTANCE.sendToServer(new PacketFoodDetailsRequest(digest));
+            }
+        }
+        return food;
+    }
+
+    public static void acceptDetails(int digest, NBTTagCompound data)
+    {
+        CompositeFood food = decodeFood(data);
+        if (food != null)
+        {
+            DETAILS.put(digest, food);
+        }
+        synchronized (REQUESTED)
+        {
+            REQUESTED.remove(digest);
+        }
+    }
+
+    /**
+     * Server side. Find the food with given digest in the container player
+     * is looking at.
+     */
+    @Nullable
+    public static NBTTagCompound findDetails(EntityPlayerMP player, int digest)
+    {
+        for (Slot slot : player.openContainer.inventorySlots)
+        {
+            ItemStack stack = slot.getStack();
+            FoodContainer container = stack.getCapability(CulinaryCapabilities.FOOD_CONTAINER, null);
+            CompositeFood food;
+            if (container != null && (food = container.get()) != null)
+            {
+                NBTTagCompound data = compact(CulinaryHub.API_INSTANCE.serialize(food), localTable());
+                if (data != null && data.hashCode() == digest)
+                {
+                    return data;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static NBTTagCompound compact(NBTTagCompound full, WireTable table)
+    {
+        NBTTagCompound data = full.copy();
+        if (full.hasKey(CuisineSharedSecrets.KEY_INGREDIENT_LIST, Constants.NBT.TAG_LIST))
+        {
+            IntList values = new IntArrayList();
+            for (NBTBase baseTag : full.getTagList(CuisineSharedSecrets.KEY_INGREDIENT_LIST, Constants.NBT.TAG_COMPOUND))
+            {
+                NBTTagCompound ingredient = (NBTTagCompound) baseTag;
+                int material = table.materialIds.getInt(ingredient.getString(CuisineSharedSecrets.KEY_MATERIAL));
+                if (material < 0)
+                {
+                    return null;
+                }
+                Form form;
+                try
+                {
+                    form = Form.valueOf(ingredient.getString(CuisineSharedSecrets.KEY_FORM));
+                }
+                catch (IllegalArgumentException e)
+                {
+                    return null;
+                }
+                int traits = 0;
+                for (int trait : ingredient.getIntArray(CuisineSharedSecrets.KEY_TRAITS))
+                {
+                    traits |= 1 << trait;
+                }
+                int[] effects = compactEffects(table, ingredient.getTagList(CuisineSharedSecrets.KEY_EFFECT_LIST, Constants.NBT.TAG_STRING));
+                if (effects == null)
+                {
+                    return null;
+                }
+                values.add(material);
+                values.add(form.ordinal());
+                values.add(ingredient.getInteger(CuisineSharedSecrets.KEY_DONENESS));
+                values.add(traits);
+                values.add(effects.length);
+                values.addElements(values.size(), effects);
+            }
+            data.setIntArray(CuisineSharedSecrets.KEY_INGREDIENT_LIST, values.toIntArray());
+        }
+
+        if (full.hasKey(CuisineSharedSecrets.KEY_SEASONING_LIST, Constants.NBT.TAG_LIST))
+        {
+            IntList values = new IntArrayList();
+            for (NBTBase baseTag : full.getTagList(CuisineSharedSecrets.KEY_SEASONING_LIST, Constants.NBT.TAG_COMPOUND))
+            {
+                NBTTagCompound seasoning = (NBTTagCompound) baseTag;
+                int spice = table.spiceIds.getInt(seasoning.getString(CuisineSharedSecrets.KEY_SPICE));
+                if (spice < 0)
+                {
+                    return null;
+                }
+                values.add(spice);
+                values.add(seasoning.getInteger(CuisineSharedSecrets.KEY_QUANTITY));
+            }
+            data.setIntArray(CuisineSharedSecrets.KEY_SEASONING_LIST, values.toIntArray());
+        }
+
+        if (full.hasKey(CuisineSharedSecrets.KEY_EFFECT_LIST, Constants.NBT.TAG_LIST))
+        {
+            int[] effects = compactEffects(table, full.getTagList(CuisineSharedSecrets.KEY_EFFECT_LIST, Constants.NBT.TAG_STRING));
+            if (effects == null)
+            {
+                return null;
+            }
+            data.setIntArray(CuisineSharedSecrets.KEY_EFFECT_LIST, effects);
+        }
+
+        data.setByte(CuisineSharedSecrets.KEY_FORMAT, FORMAT_COMPACT);
+        return data;
+    }
+
+    /**
+     * Strip everything not needed by rendering and the brief tooltip: traits,
+     * effects of ingredients, and seasonings. Merged effects are kept so that
+     * the brief tooltip stays the same.
+     */
+    private static void minimize(CompositeFood food, NBTTagCompound data, WireTable table)
+    {
+        data.setInteger(CuisineSharedSecrets.KEY_DIGEST, data.hashCode());
+        if (data.hasKey(CuisineSharedSecrets.KEY_INGREDIENT_LIST, Constants.NBT.TAG_INT_ARRAY))
+        {
+            int[] values = data.getIntArray(CuisineSharedSecrets.KEY_INGREDIENT_LIST);
+            IntList stripped = new IntArrayList();
+            int i = 0;
+            while (i + 4 < values.length)
+            {
+                stripped.add(values[i]);
+                stripped.add(values[i + 1]);
+                stripped.add(values[i + 2]);
+                stripped.add(0);
+                stripped.add(0);
+                i += 5 + values[i + 4];
+            }
+            data.setIntArray(CuisineSharedSecrets.KEY_INGREDIENT_LIST, stripped.toIntArray());
+        }
+        data.removeTag(CuisineSharedSecrets.KEY_SEASONING_LIST);
+        IntList effects = new IntArrayList();
+        for (Effect effect : food.getMergedEffects())
+        {
+            int id = table.effectIds.getInt(effect.getID());
+            if (id >= 0)
+            {
+                effects.add(id);
+            }
+        }
+        data.setIntArray(CuisineSharedSecrets.KEY_EFFECT_LIST, effects.toIntArray());
+        data.setByte(CuisineSharedSecrets.KEY_FORMAT, FORMAT_MINIMAL);
+    }
+
+    @Nullable
+    private static int[] compactEffects(WireTable table, NBTTagList list)
+    {
+        int[] effects = new int[list.tagCount()];
+        for (int i = 0; i < effects.length; i++)
+        {
+            effects[i] = table.effectIds.getInt(list.getStringTagAt(i));
+            if (effects[i] < 0)
+            {
+                return null;
+            }
+        }
+        return effects;
+    }
+
+    private static NBTTagList expandEffects(WireTable table, int[] ids)
+    {
+        NBTTagList list = new NBTTagList();
+        for (int id : ids)
+        {
+            Effect effect = table.effects.get(id);
+            if (effect != null)
+            {
+                list.appendTag(new NBTTagString(effect.getID()));
+            }
+        }
+        return list;
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event)
+    {
+        if (CuisineConfig.GENERAL.foodSyncMode != Mode.FULL && event.player instanceof EntityPlayerMP)
+        {
+            EntityPlayerMP player = (EntityPlayerMP) event.player;
+            NetworkChannel.INSTANCE.sendToPlayer(new PacketFoodIdTable(getLocalIdentifiers()), player);
+            // Inventory is sent before this event, possibly decoded with the wrong table
+            player.sendContainerToPlayer(player.inventoryContainer);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onClientDisconnect(FMLNetworkEvent.ClientDisconnectionFromServerEvent event)
+    {
+        remoteTable = null;
+        clearDetails();
+    }
+
+    /**
+     * Numeric ID mapping agreed with the peer.
+     */
+    private static final class WireTable
+    {
+        final Lookup<Material> materials;
+        final Lookup<Spice> spices;
+        final Lookup<Effect> effects;
+        final Object2IntMap<String> materialIds;
+        final Object2IntMap<String> spiceIds;
+        final Object2IntMap<String> effectIds;
+
+        WireTable(List<String> materials, List<String> spices, List<String> effects)
+        {
+            this.materials = new Lookup<>(materials, CulinaryHub.API_INSTANCE::findMaterial);
+            this.spices = new Lookup<>(spices, CulinaryHub.API_INSTANCE::findSpice);
+            this.effects = new Lookup<>(effects, CulinaryHub.API_INSTANCE::findEffect);
+            this.materialIds = toIdMap(materials);
+            this.spiceIds = toIdMap(spices);
+            this.effectIds = toIdMap(effects);
+        }
+
+        private static Object2IntMap<String> toIdMap(List<String> identifiers)
+        {
+            Object2IntMap<String> map = new Object2IntOpenHashMap<>(identifiers.size());
+            map.defaultReturnValue(-1);
+            for (int i = 0; i < identifiers.size(); i++)
+            {
+                map.put(identifiers.get(i), i);
+            }
+            return map;
+        }
+    }
+
+    private static final class Lookup<E>
+    {
+        private final List<E> values;
+
+        Lookup(List<String> identifiers, Function<String, E> finder)
+        {
+            this.values = new ArrayList<>(identifiers.size());
+            for (String identifier : identifiers)
+            {
+                this.values.add(finder.apply(identifier)); // null if unknown to this side
+            }
+        }
+
+        @Nullable
+        E get(int id)
+        {
+            return id >= 0 && id < values.size() ? values.get(id) : null;
+        }
+    }
+}
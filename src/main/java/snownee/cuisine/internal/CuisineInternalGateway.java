@@ -91,14 +91,14 @@ public final class CuisineInternalGateway implements CuisineAPI
      */
     // Remember to change key to Item in 1.13; also, if the key is Item, it means we
     // can also use IdentityHashMap in the backend.
-    public final Map<ItemDefinition, Ingredient> itemIngredients = new HashMap<>();
+    public final Map<ItemDefinition, Ingredient> itemIngredients = new ObservedMap<>(this::invalidateIngredientCache);
     /**
      * Special mapping for OreDict-to-Material conversion, used for inter-mod
      * compatibilities.
      *
      * 矿物辞典名到食材的映射表，用于跨 Mod 兼容等场景下判断指定物品是否可视作某种食材。
      */
-    public final Map<String, Ingredient> oreDictIngredients = new HashMap<>();
+    public final Map<String, Ingredient> oreDictIngredients = new ObservedMap<>(this::invalidateIngredientCache);
     /**
      * Special mapping for Fluid-to-Material conversion, used for inter-mod
      * compatibilities.
@@ -119,6 +119,12 @@ public final class CuisineInternalGateway implements CuisineAPI
      */
     public final Map<String, Spice> fluidToSpiceMapping = new HashMap<>();
 
+    /**
+     * Cache of item-to-ingredient resolution, backed by {@link #itemIngredients}
+     * and {@link #oreDictIngredients}.
+     */
+    final IngredientResolutionCache ingredientCache = new IngredientResolutionCache(this);
+
     private CuisineInternalGateway()
     {
         // No-op, only restricting access level
@@ -128,6 +134,8 @@ public final class CuisineInternalGateway implements CuisineAPI
     public Material register(Material material)
     {
         Material actualMaterial = materialRegistry.register(material.getID(), material);
+        CompactFoodCodec.invalidateLocalTable();
+        IngredientInterner.invalidate();
         if (actualMaterial == material && actualMaterial.isUnderCategoryOf(MaterialCategory.FRUIT))
         {
             DrinkBrewingRecipe.add(material);
@@ -138,15 +146,33 @@ public final class CuisineInternalGateway implements CuisineAPI
     @Override
     public Spice register(Spice spice)
     {
+        CompactFoodCodec.invalidateLocalTable();
         return spiceRegistry.register(spice.getID(), spice);
     }
 
     @Override
     public Effect register(Effect effect)
     {
+        CompactFoodCodec.invalidateLocalTable();
+        IngredientInterner.invalidate();
         return effectRegistry.register(effect.getID(), effect);
     }
 
+    IdentifierBasedRegistry<Material> getMaterialRegistry()
+    {
+        return materialRegistry;
+    }
+
+    IdentifierBasedRegistry<Spice> getSpiceRegistry()
+    {
+        return spiceRegistry;
+    }
+
+    IdentifierBasedRegistry<Effect> getEffectRegistry()
+    {
+        return effectRegistry;
+    }
+
     @Override
     public Recipe register(Recipe recipe)
     {
@@ -243,6 +269,24 @@ public final class CuisineInternalGateway implements CuisineAPI
         return effectRegistry.lookup(uniqueId);
     }
 
+    @Override
+    public int getNumericId(Material material)
+    {
+        return materialRegistry.getNumericId(material.getID(), material);
+    }
+
+    @Override
+    public int getNumericId(Spice spice)
+    {
+        return spiceRegistry.getNumericId(spice.getID(), spice);
+    }
+
+    @Override
+    public int getNumericId(Effect effect)
+    {
+        return effectRegistry.getNumericId(effect.getID(), effect);
+    }
+
     // public final Map<ItemDefinition, Material> itemToMaterialMapping = new HashMap<>();
 
     @Override
@@ -253,6 +297,33 @@ public final class CuisineInternalGateway implements CuisineAPI
             return null;
         }
 
+        if (item.getItem() == CuisineRegistry.INGREDIENT)
+        {
+            NBTTagCompound data = item.getTagCompound();
+            return data == null ? null : CuisinePersistenceCenter.deserializeIngredient(data);
+        }
+
+        Ingredient prototype = ingredientCache.resolve(item, false);
+        if (prototype == null)
+        {
+            return null;
+        }
+        Ingredient ingredient = prototype.copy();
+        if (RarityManager.getRarity(item).ordinal() > 0)
+        {
+            ingredient.addEffect(CulinaryHub.CommonEffects.RARE);
+        }
+        return ingredient;
+    }
+
+    @Override
+    public Ingredient findIngredientPrototype(ItemStack item)
+    {
+        if (item.isEmpty())
+        {
+            return null;
+        }
+
         if (item.getItem() == CuisineRegistry.INGREDIENT)
         {
             NBTTagCompound data = item.getTagCompound();
@@ -262,34 +333,16 @@ public final class CuisineInternalGateway implements CuisineAPI
             }
             else
             {
-                return CuisinePersistenceCenter.deserializeIngredient(data);
+                return CuisinePersistenceCenter.deserializeIngredientPrototype(data);
             }
         }
 
-        ItemDefinition itemDefinition = ItemDefinition.of(item);
+        return ingredientCache.resolve(item, RarityManager.getRarity(item).ordinal() > 0);
+    }
 
-        Ingredient ingredient = this.itemIngredients.get(itemDefinition);
-        if (ingredient != null)
-        {
-            ingredient = ingredient.copy();
-        }
-        else
-        {
-            List<String> possibleOreEntries = OreUtil.getOreNames(item);
-            for (String entry : possibleOreEntries)
-            {
-                if ((ingredient = this.oreDictIngredients.get(entry)) != null)
-                {
-                    ingredient = ingredient.copy();
-                    break;
-                }
-            }
-        }
-        if (ingredient != null && RarityManager.getRarity(item).ordinal() > 0)
-        {
-            ingredient.addEffect(CulinaryHub.CommonEffects.RARE);
-        }
-        return ingredient;
+    void invalidateIngredientCache()
+    {
+        ingredientCache.invalidate();
     }
 
     @Override
@@ -346,7 +399,15 @@ public final class CuisineInternalGateway implements CuisineAPI
     @Override
     public boolean isKnownIngredient(ItemStack item)
     {
-        return this.findIngredient(item) != null;
+        if (item.isEmpty())
+        {
+            return false;
+        }
+        else if (item.getItem() == CuisineRegistry.INGREDIENT)
+        {
+            return this.findIngredientPrototype(item) != null;
+        }
+        return this.ingredientCache.resolve(item, false) != null;
     }
 
     @Override
@@ -50,12 +50,31 @@ public interface CuisinePersistenceCenter
         return data;
     }
 
+    /**
+     * @return A fresh ingredient decoded from given data, owned by the caller
+     */
     static @Nullable Ingredient deserializeIngredient(@Nonnull NBTTagCompound data)
+    {
+        Ingredient prototype = deserializeIngredientPrototype(data);
+        return prototype == null ? null : prototype.copy();
+    }
+
+    /**
+     * Decode given data into an ingredient shared by every caller decoding
+     * equal data. It must not be mutated; use {@link #deserializeIngredient}
+     * or call {@link Ingredient#copy()} first if modification is needed.
+     */
+    static @Nullable Ingredient deserializeIngredientPrototype(@Nonnull NBTTagCompound data)
     {
         if (!data.hasKey(CuisineSharedSecrets.KEY_MATERIAL, Constants.NBT.TAG_STRING))
         {
             return null;
         }
+        Ingredient interned = IngredientInterner.lookup(data);
+        if (interned != null)
+        {
+            return interned;
+        }
         final String materialKey = data.getString(CuisineSharedSecrets.KEY_MATERIAL);
         Material material = CulinaryHub.API_INSTANCE.findMaterial(materialKey);
         if (material == null)
@@ -86,6 +105,7 @@ public interface CuisinePersistenceCenter
                 }
             }
         }
+        IngredientInterner.intern(data, result);
         return result;
     }
 
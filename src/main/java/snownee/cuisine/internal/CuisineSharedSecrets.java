@@ -33,5 +33,11 @@ public interface CuisineSharedSecrets
      */
     String KEY_TYPE = "FoodType";
 
+    /**
+     * Used by {@link CompactFoodCodec} to mark encoded CompositeFood data
+     */
+    String KEY_FORMAT = "format";
+    String KEY_DIGEST = "digest";
+
 
 }
@@ -1,17 +1,27 @@
 package snownee.cuisine.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
 /**
  * A simple wrapper of a String to object map, functioning as a namespace-based
  * registry. It runs on a "first come, first serve" basis - the first one that
  * register a thing with a certain identifier will permanently acquire it,
  * until the registry is invalidated.
+ * <p>
+ * Each identifier is also assigned a numeric ID in the order of registration.
+ * Numeric IDs are dense and only meaningful within one running game
+ * instance, so they must never be persisted; they are meant for network
+ * transfer and for bit sets of registered objects.
  * 
  * @param <E>
  *            The type of actual object to be registered
@@ -19,6 +29,8 @@ import javax.annotation.Nullable;
 final class IdentifierBasedRegistry<E>
 {
     private final Map<String, E> registry;
+    private final List<String> identifiers = new ArrayList<>();
+    private final Object2IntMap<String> numericIds = new Object2IntOpenHashMap<>();
 
     IdentifierBasedRegistry()
     {
@@ -28,12 +40,44 @@ final class IdentifierBasedRegistry<E>
     IdentifierBasedRegistry(Map<String, E> underlyingMap)
     {
         this.registry = underlyingMap;
+        this.numericIds.defaultReturnValue(-1);
     }
 
     public E register(String identifier, E candidate)
     {
         E ret = registry.putIfAbsent(Objects.requireNonNull(identifier), candidate);
-        return ret == null ? candidate : ret;
+        if (ret == null)
+        {
+            numericIds.put(identifier, identifiers.size());
+            identifiers.add(identifier);
+            return candidate;
+        }
+        return ret;
+    }
+
+    /**
+     * @return the numeric ID of given identifier, or -1 if it is not registered
+     */
+    public int getNumericId(String identifier)
+    {
+        return numericIds.getInt(identifier);
+    }
+
+    /**
+     * @return the numeric ID of given object, or -1 if it is not the one
+     *         registered with given identifier
+     */
+    public int getNumericId(String identifier, E candidate)
+    {
+        return registry.get(identifier) == candidate ? numericIds.getInt(identifier) : -1;
+    }
+
+    /**
+     * @return View of all registered identifiers, indexed by numeric ID
+     */
+    public List<String> getIdentifiers()
+    {
+        return Collections.unmodifiableList(identifiers);
     }
 
     @Nullable
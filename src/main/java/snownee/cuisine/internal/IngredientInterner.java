@@ -0,0 +1,78 @@
+package snownee.cuisine.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import snownee.cuisine.api.Ingredient;
+
+/**
+ * Cache of ingredients decoded by {@link CuisinePersistenceCenter#deserializeIngredient},
+ * keyed by the content of their NBT data. Identical data, which are very common
+ * among stacked items, woks and dishes, are resolved against the registries only
+ * once.
+ * <p>
+ * Prototypes in this cache are shared by every caller decoding equal data, so
+ * they must never be mutated. Callers that need to modify an ingredient get a
+ * copy from {@link CuisinePersistenceCenter#deserializeIngredient}; read-only
+ * ones, such as tooltips and {@link CuisineInternalGateway#findIngredientPrototype},
+ * use the prototype as-is.
+ *
+ * 按 NBT 内容缓存已解码的食材原型，避免重复查询注册表。
+ */
+final class IngredientInterner
+{
+    private static final int MAX_SIZE = 1024;
+
+    private static final Map<NBTTagCompound, Ingredient> PROTOTYPES = new LinkedHashMap<NBTTagCompound, Ingredient>(64, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<NBTTagCompound, Ingredient> eldest)
+        {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private IngredientInterner()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    /**
+     * @return the shared prototype decoded from equal data, or null
+     */
+    @Nullable
+    static Ingredient lookup(NBTTagCompound data)
+    {
+        synchronized (PROTOTYPES)
+        {
+            return PROTOTYPES.get(data);
+        }
+    }
+
+    /**
+     * @param decoded Freshly decoded ingredient, which becomes the shared prototype
+     */
+    static void intern(NBTTagCompound data, Ingredient decoded)
+    {
+        // The key is copied, since the caller owns the data and may modify it later
+        NBTTagCompound key = data.copy();
+        synchronized (PROTOTYPES)
+        {
+            PROTOTYPES.put(key, decoded);
+        }
+    }
+
+    /**
+     * Called when materials or effects change, since prototypes refer to them.
+     */
+    static void invalidate()
+    {
+        synchronized (PROTOTYPES)
+        {
+            PROTOTYPES.clear();
+        }
+    }
+}
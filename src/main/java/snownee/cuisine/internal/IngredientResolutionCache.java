@@ -0,0 +1,121 @@
+package snownee.cuisine.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.oredict.OreDictionary;
+import snownee.cuisine.Cuisine;
+import snownee.cuisine.api.CulinaryHub;
+import snownee.cuisine.api.Ingredient;
+import snownee.kiwi.util.definition.ItemDefinition;
+
+/**
+ * Memorizes the result of resolving an item (metadata-sensitive) into an
+ * {@link Ingredient} through {@link CuisineInternalGateway#itemIngredients}
+ * and {@link CuisineInternalGateway#oreDictIngredients}, including the
+ * negative result.
+ * <p>
+ * Cached ingredients are prototypes shared between callers; they must never
+ * be mutated. The cache is dropped whenever either mapping changes, or when
+ * a new ore dictionary entry is registered.
+ *
+ * 缓存物品（含 meta）到食材的解析结果。缓存中的食材为共享原型，不得修改。
+ */
+@Mod.EventBusSubscriber(modid = Cuisine.MODID)
+public final class IngredientResolutionCache
+{
+    /**
+     * Sentinel for "this item is not an ingredient".
+     */
+    private static final Resolution NONE = new Resolution(null);
+
+    private final CuisineInternalGateway api;
+    private final Map<Item, Int2ObjectMap<Resolution>> cache = new IdentityHashMap<>();
+
+    IngredientResolutionCache(CuisineInternalGateway api)
+    {
+        this.api = api;
+    }
+
+    /**
+     * @return the shared prototype of ingredient that the given stack represents,
+     *         with {@link CulinaryHub.CommonEffects#RARE} if <code>rare</code> is
+     *         true; or null if the stack is not an ingredient.
+     */
+    @Nullable
+    synchronized Ingredient resolve(ItemStack stack, boolean rare)
+    {
+        Int2ObjectMap<Resolution> byMeta = cache.computeIfAbsent(stack.getItem(), k -> new Int2ObjectOpenHashMap<>(4));
+        int meta = stack.getHasSubtypes() ? stack.getMetadata() : 0; // Same as ItemDefinition.of(ItemStack)
+        Resolution resolution = byMeta.get(meta);
+        if (resolution == null)
+        {
+            Ingredient prototype = lookup(stack);
+            byMeta.put(meta, resolution = prototype == null ? NONE : new Resolution(prototype));
+        }
+        return rare ? resolution.getRare() : resolution.common;
+    }
+
+    synchronized void invalidate()
+    {
+        cache.clear();
+    }
+
+    @Nullable
+    private Ingredient lookup(ItemStack stack)
+    {
+        Ingredient ingredient = api.itemIngredients.get(ItemDefinition.of(stack));
+        if (ingredient == null)
+        {
+            for (int id : OreDictionary.getOreIDs(stack))
+            {
+                if ((ingredient = api.oreDictIngredients.get(OreDictionary.getOreName(id))) != null)
+                {
+                    break;
+                }
+            }
+        }
+        return ingredient;
+    }
+
+    @SubscribeEvent
+    public static void onOreRegister(OreDictionary.OreRegisterEvent event)
+    {
+        if (CuisineInternalGateway.INSTANCE != null)
+        {
+            CuisineInternalGateway.INSTANCE.ingredientCache.invalidate();
+        }
+    }
+
+    private static final class Resolution
+    {
+        @Nullable
+        final Ingredient common;
+        @Nullable
+        private Ingredient rare;
+
+        Resolution(@Nullable Ingredient common)
+        {
+            this.common = common;
+        }
+
+        @Nullable
+        Ingredient getRare()
+        {
+            if (rare == null && common != null)
+            {
+                rare = common.copy();
+                rare.addEffect(CulinaryHub.CommonEffects.RARE);
+            }
+            return rare;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package snownee.cuisine.internal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ForwardingMap;
+
+/**
+ * A map that notifies a listener whenever its content is modified. Views
+ * returned by this map are unmodifiable so that every modification goes
+ * through the map itself.
+ *
+ * @param <K> The type of keys
+ * @param <V> The type of values
+ */
+final class ObservedMap<K, V> extends ForwardingMap<K, V>
+{
+    private final Map<K, V> delegate = new HashMap<>();
+    private final Runnable listener;
+
+    ObservedMap(Runnable listener)
+    {
+        this.listener = listener;
+    }
+
+    @Override
+    protected Map<K, V> delegate()
+    {
+        return delegate;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        V ret = delegate.put(key, value);
+        listener.run();
+        return ret;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        delegate.putAll(map);
+        listener.run();
+    }
+
+    @Override
+    public V remove(@Nullable Object key)
+    {
+        V ret = delegate.remove(key);
+        listener.run();
+        return ret;
+    }
+
+    @Override
+    public void clear()
+    {
+        delegate.clear();
+        listener.run();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return Collections.unmodifiableSet(delegate.keySet());
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return Collections.unmodifiableCollection(delegate.values());
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return Collections.unmodifiableSet(delegate.entrySet());
+    }
+}
@@ -1,9 +1,7 @@
 package snownee.cuisine.internal.effect;
 
-import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
 
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.player.EntityPlayer;
@@ -14,7 +12,6 @@ import snownee.cuisine.api.CompositeFood;
 import snownee.cuisine.api.CulinaryHub;
 import snownee.cuisine.api.EffectCollector;
 import snownee.cuisine.api.Ingredient;
-import snownee.cuisine.api.MaterialCategory;
 import snownee.cuisine.api.prefab.SimpleEffectImpl;
 
 public class EffectExperienced extends SimpleEffectImpl
@@ -30,13 +27,7 @@ public class EffectExperienced extends SimpleEffectImpl
     {
         ItemStack itemstack = EnchantmentHelper.getEnchantedItem(Enchantments.MENDING, player);
 
-        Set<MaterialCategory> categories = EnumSet.noneOf(MaterialCategory.class);
-        for (Ingredient in : food.getIngredients())
-        {
-            categories.addAll(in.getMaterial().getCategories());
-        }
-
-        int xpValue = categories.size() * ingredients.size() * 3;
+        int xpValue = Integer.bitCount(food.getCategoryMask()) * ingredients.size() * 3;
 
         if (!itemstack.isEmpty() && itemstack.isItemDamaged())
         {
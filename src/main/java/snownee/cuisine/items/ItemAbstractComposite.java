@@ -26,7 +26,6 @@ import net.minecraft.util.ActionResult;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextFormatting;
@@ -36,17 +35,16 @@ import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.eventhandler.Event;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
+import snownee.cuisine.CuisineConfig;
 import snownee.cuisine.api.CompositeFood;
 import snownee.cuisine.api.CulinaryCapabilities;
-import snownee.cuisine.api.CulinaryHub;
 import snownee.cuisine.api.Effect;
 import snownee.cuisine.api.FoodContainer;
 import snownee.cuisine.api.Ingredient;
 import snownee.cuisine.api.IngredientTrait;
 import snownee.cuisine.api.Seasoning;
 import snownee.cuisine.api.events.ConsumeCompositeFoodEvent;
-import snownee.cuisine.internal.CuisineSharedSecrets;
-import snownee.cuisine.internal.food.Dish;
+import snownee.cuisine.internal.CompactFoodCodec;
 import snownee.cuisine.util.I18nUtil;
 import snownee.kiwi.client.AdvancedFontRenderer;
 import snownee.kiwi.item.ItemMod;
@@ -135,21 +133,13 @@ public abstract class ItemAbstractComposite extends ItemMod
         CompositeFood food;
         if (foodContainer != null && (food = foodContainer.get()) != null)
         {
-            // If anyone is looking at this: yes, syncing the entire cap. data may
-            // lead to large bandwidth resource cost, but in order to correctly
-            // implement the behavior of dish tooltip and the behavior of dish-
-            // sensitive item model (also the recipe-sensitive item model in the
-            // future), there is no way around, due to the fact that cap. data are
-            // not magically synced over to client.
+            // Syncing the entire cap. data is needed for the dish tooltip and the
+            // dish-sensitive item model, since cap. data are not magically synced
+            // over to client. To keep the bandwidth cost low, the data are encoded
+            // by CompactFoodCodec; see CuisineConfig.General.foodSyncMode.
             // To preserve original behavior, we also sync the NBT data of ItemStack
             // itself, if exists.
-            // If you have ideas regarding improvements please let us know.
-            //
-            // Thought left by 3TUSK: if we don't display tooltips, the only thing
-            // client needs to know is the "dish type" (or recipe name in the future),
-            // which means that we could just sync a recipe name to client. Perhaps
-            // we can add a config option for this?
-            data.setTag("dish", CulinaryHub.API_INSTANCE.serialize(food));
+            data.setTag("dish", CompactFoodCodec.encode(food, CuisineConfig.GENERAL.foodSyncMode));
         }
         return data;
     }
@@ -166,15 +156,7 @@ public abstract class ItemAbstractComposite extends ItemMod
             FoodContainer foodContainer = stack.getCapability(CulinaryCapabilities.FOOD_CONTAINER, null);
             if (foodContainer != null)
             {
-                NBTTagCompound data = nbt.getCompoundTag("dish");
-                ResourceLocation id = new ResourceLocation(data.getString(CuisineSharedSecrets.KEY_TYPE));
-                foodContainer.set(CulinaryHub.API_INSTANCE.deserialize(id, data));
-                if (foodContainer.get() == null)
-                {
-                    // Backward compatibility: assume failed-to-load data are from previous version.
-                    // See TileDish.readFromNBT for more info
-                    foodContainer.set(Dish.deserialize(data));
-                }
+                foodContainer.set(CompactFoodCodec.decodeFood(nbt.getCompoundTag("dish")));
             }
         }
         if (nbt.hasKey("default"))
@@ -208,6 +190,7 @@ public abstract class ItemAbstractComposite extends ItemMod
 
         if (Keyboard.isKeyDown(Keyboard.KEY_LSHIFT) || Keyboard.isKeyDown(Keyboard.KEY_RSHIFT))
         {
+            dish = CompactFoodCodec.getDetails(dish, true);
             List<Ingredient> ingredients = dish.getIngredients();
             if (!ingredients.isEmpty())
             {
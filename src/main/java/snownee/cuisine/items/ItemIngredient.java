@@ -129,7 +129,7 @@ public final class ItemIngredient extends ItemFood implements IModItem, CookingV
         {
             return false;
         }
-        Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredient(stack.getTagCompound());
+        Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredientPrototype(stack.getTagCompound());
         if (ingredient == null)
         {
             return false;
@@ -144,7 +144,7 @@ public final class ItemIngredient extends ItemFood implements IModItem, CookingV
         NBTTagCompound data = stack.getTagCompound();
         if (data != null)
         {
-            Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredient(data);
+            Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredientPrototype(data);
             if (ingredient != null)
             {
                 if (Keyboard.isKeyDown(Keyboard.KEY_LSHIFT) || Keyboard.isKeyDown(Keyboard.KEY_RSHIFT))
@@ -187,7 +187,7 @@ public final class ItemIngredient extends ItemFood implements IModItem, CookingV
         }
         else
         {
-            Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredient(data);
+            Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredientPrototype(data);
             return ingredient == null ? I18nUtil.translate("material.unknown") : ingredient.getTranslation();
         }
     }
@@ -230,7 +230,7 @@ public final class ItemIngredient extends ItemFood implements IModItem, CookingV
     {
         ItemStack itemStack = new ItemStack(CuisineRegistry.INGREDIENT);
         itemStack.setTagCompound(CuisinePersistenceCenter.serialize(ingredient));
-        if (ingredient.getEffects().contains(CulinaryHub.CommonEffects.RARE))
+        if (ingredient.hasEffect(CulinaryHub.CommonEffects.RARE))
         {
             NBTHelper.of(itemStack).setBoolean(CuisineSharedSecrets.KEY_RARE, true);
         }
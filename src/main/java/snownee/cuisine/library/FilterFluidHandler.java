@@ -7,6 +7,7 @@ import javax.annotation.Nullable;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
+import snownee.cuisine.debug.CapabilityAllocations;
 
 /**
  * A wrapper of {@link IFluidHandler} that filters input {@link FluidStack}.
@@ -15,22 +16,36 @@ public class FilterFluidHandler implements IFluidHandler
 {
     private final IFluidHandler parent;
     private final Predicate<FluidStack> validator;
+    /**
+     * Properties wrapped last time, reused as long as the parent returns the
+     * same array, e.g. a {@link net.minecraftforge.fluids.FluidTank}
+     */
+    private IFluidTankProperties[] parentProperties;
+    private IFluidTankProperties[] properties;
 
     public FilterFluidHandler(IFluidHandler parent, Predicate<FluidStack> validator)
     {
         this.parent = parent;
         this.validator = validator;
+        CapabilityAllocations.count();
     }
 
     @Override
     public IFluidTankProperties[] getTankProperties()
     {
         IFluidTankProperties[] parents = parent.getTankProperties();
+        if (parents == parentProperties)
+        {
+            return properties;
+        }
         IFluidTankProperties[] properties = new IFluidTankProperties[parents.length];
         for (int i = 0; i < parents.length; i++)
         {
             properties[i] = new FilterFluidTankProperties(parents[i]);
         }
+        CapabilityAllocations.count();
+        this.parentProperties = parents;
+        this.properties = properties;
         return properties;
     }
 
@@ -4,6 +4,7 @@ import javax.annotation.Nonnull;
 
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
+import snownee.cuisine.debug.CapabilityAllocations;
 
 public class FilterItemHandler implements IItemHandler
 {
@@ -14,6 +15,7 @@ public class FilterItemHandler implements IItemHandler
     {
         this.parent = parent;
         this.predicate = predicate;
+        CapabilityAllocations.count();
     }
 
     @Override
@@ -22,6 +22,15 @@ public class SingleSlotItemHandler implements IItemHandler
     public void setRawContent(ItemStack newContent)
     {
         this.content = newContent;
+        onContentsChanged();
+    }
+
+    /**
+     * Called after the content is changed through this handler. Changes made
+     * directly on {@link #getRawContent()} are not reported.
+     */
+    protected void onContentsChanged()
+    {
     }
 
     @Override
@@ -48,6 +57,7 @@ public class SingleSlotItemHandler implements IItemHandler
                 if (!simulate)
                 {
                     this.content = stack;
+                    onContentsChanged();
                 }
                 return ItemStack.EMPTY;
             }
@@ -67,6 +77,7 @@ public class SingleSlotItemHandler implements IItemHandler
                         if (!simulate)
                         {
                             this.content.grow(stack.getCount());
+                            onContentsChanged();
                         }
                         return ItemStack.EMPTY;
                     }
@@ -82,6 +93,7 @@ public class SingleSlotItemHandler implements IItemHandler
                         {
                             result = stack;
                             this.content.grow(increment);
+                            onContentsChanged();
                         }
                         result.shrink(increment); // Shrink the increment added to this.content
                         return result;
@@ -109,8 +121,16 @@ public class SingleSlotItemHandler implements IItemHandler
             {
                 return ItemStack.EMPTY;
             }
-            ItemStack source = simulate ? this.content.copy() : this.content;
-            return source.splitStack(amount);
+            if (simulate)
+            {
+                return this.content.copy().splitStack(amount);
+            }
+            ItemStack result = this.content.splitStack(amount);
+            if (!result.isEmpty())
+            {
+                onContentsChanged();
+            }
+            return result;
         }
         else
         {
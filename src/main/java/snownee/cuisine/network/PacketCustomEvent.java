@@ -1,24 +1,18 @@
 package snownee.cuisine.network;
 
-import java.util.Random;
-
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.entity.player.EntityPlayerMP;
-import net.minecraft.init.SoundEvents;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumParticleTypes;
-import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import snownee.cuisine.Cuisine;
-import snownee.cuisine.api.HeatHandler;
-import snownee.cuisine.tiles.FuelHeatHandler;
 import snownee.cuisine.tiles.TileJar;
 import snownee.cuisine.tiles.TileWok;
 import snownee.kiwi.network.PacketMod;
@@ -98,29 +92,12 @@ public class PacketCustomEvent implements PacketMod
         }
         case 3:
         {
-            // TODO Fine tuning on FX
-            World world = Minecraft.getMinecraft().world;
-            Random rand = world.rand;
-            TileEntity te = world.getTileEntity(new BlockPos(posX, posY, posZ));
-            if (te instanceof TileWok)
+            TileEntity tile = Minecraft.getMinecraft().world.getTileEntity(new BlockPos(posX, posY, posZ));
+            if (tile instanceof TileWok)
             {
-                ++((TileWok) te).actionCycle;
-                HeatHandler handler = ((TileWok) te).getHeatHandler();
-                if (handler instanceof FuelHeatHandler)
-                {
-                    int level = ((FuelHeatHandler) handler).getLevel();
-                    for (int k = 0; k < level * 2; ++k)
-                    {
-                        double x = posX + 0.5D + rand.nextGaussian() * 0.2D;
-                        double z = posZ + 0.5D + rand.nextGaussian() * 0.2D;
-                        world.spawnParticle(EnumParticleTypes.EXPLOSION_NORMAL, x, posY + 0.25, z, 0D, 0.1D, 0D);
-                    }
-                    if (level > 0)
-                    {
-                        world.playSound(posX + 0.5, posY + 0.25, posZ + 0.5, SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS, 0.4F + rand.nextFloat() * 0.2F * level, 0.7F + rand.nextFloat() * 0.1F * level, false);
-                    }
-                }
+                ((TileWok) tile).playActionEffect();
             }
+            break;
         }
         case 5:
         {
@@ -0,0 +1,37 @@
+package snownee.cuisine.network;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import snownee.cuisine.CuisineConfig;
+import snownee.kiwi.network.NetworkChannel;
+import snownee.kiwi.network.PacketMod;
+
+/**
+ * Sends packets that describe something happening at a certain block, e.g. a
+ * cooking device. By default only players tracking the chunk receive them; the
+ * old dimension-wide behavior is available via {@link CuisineConfig.General#trackingRangeSync}.
+ */
+public final class PacketDispatcher
+{
+
+    private PacketDispatcher()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    public static void sendToWatching(PacketMod packet, World world, BlockPos pos)
+    {
+        if (world.isRemote)
+        {
+            return;
+        }
+        if (CuisineConfig.GENERAL.trackingRangeSync)
+        {
+            NetworkChannel.INSTANCE.sendToAllTracking(packet, world.provider.getDimension(), pos);
+        }
+        else
+        {
+            NetworkChannel.INSTANCE.sendToDimension(packet, world.provider.getDimension());
+        }
+    }
+}
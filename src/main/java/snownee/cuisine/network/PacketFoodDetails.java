@@ -0,0 +1,56 @@
+package snownee.cuisine.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.client.entity.EntityPlayerSP;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import snownee.cuisine.internal.CompactFoodCodec;
+import snownee.kiwi.network.PacketMod;
+
+public class PacketFoodDetails implements PacketMod
+{
+    private int digest;
+    private NBTTagCompound data;
+
+    public PacketFoodDetails()
+    {
+    }
+
+    public PacketFoodDetails(int digest, NBTTagCompound data)
+    {
+        this.digest = digest;
+        this.data = data;
+    }
+
+    @Override
+    public void writeDataTo(ByteBuf buffer)
+    {
+        buffer.writeInt(digest);
+        ByteBufUtils.writeTag(buffer, data);
+    }
+
+    @Override
+    public void readDataFrom(ByteBuf buffer)
+    {
+        digest = buffer.readInt();
+        data = ByteBufUtils.readTag(buffer);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void handleClient(EntityPlayerSP player)
+    {
+        if (data != null)
+        {
+            CompactFoodCodec.acceptDetails(digest, data);
+        }
+    }
+
+    @Override
+    public void handleServer(EntityPlayerMP player)
+    {
+    }
+}
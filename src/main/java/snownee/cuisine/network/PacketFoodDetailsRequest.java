@@ -0,0 +1,57 @@
+package snownee.cuisine.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.client.entity.EntityPlayerSP;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import snownee.cuisine.internal.CompactFoodCodec;
+import snownee.kiwi.network.NetworkChannel;
+import snownee.kiwi.network.PacketMod;
+
+/**
+ * Sent by client when it needs the complete data of a food synced in minimal
+ * mode, e.g. for the detailed tooltip.
+ */
+public class PacketFoodDetailsRequest implements PacketMod
+{
+    private int digest;
+
+    public PacketFoodDetailsRequest()
+    {
+    }
+
+    public PacketFoodDetailsRequest(int digest)
+    {
+        this.digest = digest;
+    }
+
+    @Override
+    public void writeDataTo(ByteBuf buffer)
+    {
+        buffer.writeInt(digest);
+    }
+
+    @Override
+    public void readDataFrom(ByteBuf buffer)
+    {
+        digest = buffer.readInt();
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void handleClient(EntityPlayerSP player)
+    {
+    }
+
+    @Override
+    public void handleServer(EntityPlayerMP player)
+    {
+        NBTTagCompound data = CompactFoodCodec.findDetails(player, digest);
+        if (data != null)
+        {
+            NetworkChannel.INSTANCE.sendToPlayer(new PacketFoodDetails(digest, data), player);
+        }
+    }
+}
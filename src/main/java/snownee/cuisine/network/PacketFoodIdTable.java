@@ -0,0 +1,72 @@
+package snownee.cuisine.network;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.client.entity.EntityPlayerSP;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import snownee.cuisine.internal.CompactFoodCodec;
+import snownee.kiwi.network.PacketMod;
+
+/**
+ * Identifiers of materials, spices and effects known by server, indexed by
+ * their numeric IDs.
+ */
+public class PacketFoodIdTable implements PacketMod
+{
+    private List<List<String>> tables;
+
+    public PacketFoodIdTable()
+    {
+    }
+
+    public PacketFoodIdTable(List<List<String>> tables)
+    {
+        this.tables = tables;
+    }
+
+    @Override
+    public void writeDataTo(ByteBuf buffer)
+    {
+        for (List<String> table : tables)
+        {
+            ByteBufUtils.writeVarInt(buffer, table.size(), 5);
+            for (String identifier : table)
+            {
+                ByteBufUtils.writeUTF8String(buffer, identifier);
+            }
+        }
+    }
+
+    @Override
+    public void readDataFrom(ByteBuf buffer)
+    {
+        tables = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++)
+        {
+            int size = ByteBufUtils.readVarInt(buffer, 5);
+            List<String> table = new ArrayList<>(size);
+            for (int j = 0; j < size; j++)
+            {
+                table.add(ByteBufUtils.readUTF8String(buffer));
+            }
+            tables.add(table);
+        }
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void handleClient(EntityPlayerSP player)
+    {
+        CompactFoodCodec.acceptRemoteTable(tables.get(0), tables.get(1), tables.get(2));
+    }
+
+    @Override
+    public void handleServer(EntityPlayerMP player)
+    {
+    }
+}
@@ -1,17 +1,22 @@
 package snownee.cuisine.plugins.crafttweaker;
 
 import crafttweaker.api.item.IIngredient;
+import crafttweaker.api.item.IItemStack;
 import crafttweaker.api.minecraft.CraftTweakerMC;
+import crafttweaker.api.oredict.IOreDictEntry;
 import net.minecraft.item.ItemStack;
+import snownee.cuisine.api.process.RecipeIndexer;
+import snownee.cuisine.api.process.prefab.ProcessingIndexers;
 import snownee.kiwi.crafting.input.ProcessingInput;
 
 import javax.annotation.Nonnull;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-final class CTIngredientInput implements ProcessingInput
+final class CTIngredientInput implements ProcessingInput, RecipeIndexer.IndexableInput
 {
     private final IIngredient ingredient;
 
@@ -49,4 +54,26 @@ final class CTIngredientInput implements ProcessingInput
     {
         return this.ingredient.getAmount();
     }
+
+    @Override
+    public boolean collectIndexKeys(Consumer<Object> keys)
+    {
+        if (this.ingredient instanceof IOreDictEntry)
+        {
+            keys.accept(((IOreDictEntry) this.ingredient).getName());
+            return true;
+        }
+        else if (this.ingredient instanceof IItemStack)
+        {
+            ItemStack stack = CTSupport.toNative((IItemStack) this.ingredient);
+            if (stack.isEmpty())
+            {
+                return false;
+            }
+            ProcessingIndexers.collectKeys(stack.getItem(), stack.getMetadata(), keys);
+            return true;
+        }
+        // Compound ingredients (e.g. `<a> | <b>`) are not indexed
+        return false;
+    }
 }
@@ -26,6 +26,7 @@ import net.minecraftforge.oredict.OreDictionary;
 import snownee.cuisine.Cuisine;
 import snownee.cuisine.api.process.CuisineProcessingRecipe;
 import snownee.cuisine.api.process.CuisineProcessingRecipeManager;
+import snownee.cuisine.tiles.SmeltingResultCache;
 import snownee.kiwi.IModule;
 import snownee.kiwi.KiwiModule;
 import snownee.kiwi.crafting.input.ProcessingInput;
@@ -43,6 +44,8 @@ public final class CTSupport implements IModule
     {
         DELAYED_ACTIONS.forEach(CraftTweakerAPI::apply);
         DELAYED_ACTIONS.clear();
+        // Scripts may have touched furnace recipes
+        SmeltingResultCache.invalidate();
     }
 
     static ResourceLocation fromUserInputOrGenerate(Object... inputs)
@@ -6,8 +6,6 @@ import java.util.Map;
 import ca.wescook.nutrition.capabilities.INutrientManager;
 import ca.wescook.nutrition.nutrients.Nutrient;
 import ca.wescook.nutrition.nutrients.NutrientList;
-import it.unimi.dsi.fastutil.objects.Object2DoubleArrayMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -83,23 +81,25 @@ public class NutritionCompat implements IModule
             Cuisine.logger.debug("Entity {} has no INutrientManager. Skip nutrition calculation.", consumer);
             return;
         }
-        Object2DoubleMap<MaterialCategory> map = new Object2DoubleArrayMap<>();
+        int[] counts = new int[MaterialCategory.size()];
         for (Ingredient ingredient : event.getFood().getIngredients())
         {
-            for (MaterialCategory category : ingredient.getMaterial().getCategories())
-            {
-                map.put(category, map.getOrDefault(category, 0D) + 1F);
-            }
+            MaterialCategory.count(ingredient.getCategoryMask(), counts);
         }
-        for (Object2DoubleMap.Entry<MaterialCategory> entry : map.object2DoubleEntrySet())
+        for (int i = 0; i < counts.length; i++)
         {
-            if (entry.getKey() == MaterialCategory.SUPERNATURAL)
+            if (counts[i] == 0)
+            {
+                continue;
+            }
+            MaterialCategory category = MaterialCategory.byOrdinal(i);
+            if (category == MaterialCategory.SUPERNATURAL)
             {
-                manager.add(NutrientList.get(), (float) (entry.getDoubleValue() * 0.1F));
+                manager.add(NutrientList.get(), counts[i] * 0.1F);
             }
-            else if (materialCategoryToNutrient.containsKey(entry.getKey()))
+            else if (materialCategoryToNutrient.containsKey(category))
             {
-                manager.add(materialCategoryToNutrient.get(entry.getKey()), (float) (entry.getDoubleValue() * 0.5));
+                manager.add(materialCategoryToNutrient.get(category), (float) (counts[i] * 0.5));
             }
         }
     }
@@ -126,7 +126,7 @@ public class NutritionCompat implements IModule
             {
                 return;
             }
-            Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredient(data);
+            Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredientPrototype(data);
             if (ingredient != null)
             {
                 for (MaterialCategory category : ingredient.getMaterial().getCategories())
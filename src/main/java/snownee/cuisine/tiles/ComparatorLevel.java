@@ -0,0 +1,67 @@
+package snownee.cuisine.tiles;
+
+import java.util.function.IntSupplier;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+/**
+ * The comparator output of a tile, remembered between the changes of its
+ * contents. Owners call {@link #update()} when their inventory or tank
+ * changes; nearby comparators are only notified if the level really differs.
+ *
+ * 缓存方块实体的比较器输出，仅在数值改变时通知比较器。
+ */
+public final class ComparatorLevel
+{
+    private static final int UNKNOWN = -1;
+
+    private final TileEntity tile;
+    private final IntSupplier calculator;
+    private int level = UNKNOWN;
+
+    public ComparatorLevel(TileEntity tile, IntSupplier calculator)
+    {
+        this.tile = tile;
+        this.calculator = calculator;
+    }
+
+    public int get()
+    {
+        if (level == UNKNOWN)
+        {
+            level = calculator.getAsInt();
+        }
+        return level;
+    }
+
+    /**
+     * Recalculate the level after the contents changed, and notify comparators
+     * if it is different from before.
+     */
+    public void update()
+    {
+        World world = tile.getWorld();
+        if (world == null || world.isRemote)
+        {
+            level = UNKNOWN;
+            return;
+        }
+        int previous = level;
+        level = calculator.getAsInt();
+        // Comparators may still show a level from before the tile was loaded
+        if (previous != level || previous == UNKNOWN)
+        {
+            world.updateComparatorOutputLevel(tile.getPos(), tile.getBlockType());
+        }
+    }
+
+    /**
+     * Forget the level without notifying anyone, e.g. when the contents are
+     * read from NBT.
+     */
+    public void reset()
+    {
+        level = UNKNOWN;
+    }
+}
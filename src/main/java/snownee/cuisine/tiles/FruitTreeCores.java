@@ -0,0 +1,245 @@
+package snownee.cuisine.tiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import snownee.cuisine.blocks.BlockModLeaves;
+
+/**
+ * Index of the cores of fruit trees, i.e. the {@link TileFruitTree}s, loaded
+ * in each world on server side. A core owns the leaves at most
+ * {@link #RADIUS} blocks away from it horizontally and at most {@link #DEPTH}
+ * blocks below it, which is where a grown tree puts its leaves.
+ * <p>
+ * With the index, finding the tree a leaf belongs to only checks the few
+ * cores in nearby chunks, and finding the ripe leaves in an area only checks
+ * the leaves that each core remembers to be ripe, instead of every block.
+ *
+ * 按世界记录已加载的果树核心，以便快速找到树叶所属的果树及其成熟的树叶。
+ */
+public final class FruitTreeCores
+{
+    public static final int RADIUS = 2;
+    public static final int DEPTH = 3;
+
+    private static final Map<World, Long2ObjectMap<List<TileFruitTree>>> CORES = new WeakHashMap<>();
+
+    private FruitTreeCores()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    static void add(TileFruitTree tree)
+    {
+        World world = tree.getWorld();
+        if (world == null || world.isRemote)
+        {
+            return;
+        }
+        synchronized (CORES)
+        {
+            List<TileFruitTree> trees = CORES.computeIfAbsent(world, k -> new Long2ObjectOpenHashMap<>()).computeIfAbsent(chunkOf(tree.getPos()), k -> new ArrayList<>(1));
+            if (!trees.contains(tree))
+            {
+                trees.add(tree);
+            }
+        }
+    }
+
+    static void remove(TileFruitTree tree)
+    {
+        World world = tree.getWorld();
+        if (world == null || world.isRemote)
+        {
+            return;
+        }
+        synchronized (CORES)
+        {
+            Long2ObjectMap<List<TileFruitTree>> cores = CORES.get(world);
+            if (cores == null)
+            {
+                return;
+            }
+            long chunk = chunkOf(tree.getPos());
+            List<TileFruitTree> trees = cores.get(chunk);
+            if (trees != null && trees.remove(tree) && trees.isEmpty())
+            {
+                cores.remove(chunk);
+            }
+        }
+    }
+
+    /**
+     * @return The tree owning the leaf at given position. If several do, the
+     *         one a scan of the box above the leaf would have found first
+     */
+    @Nullable
+    public static TileFruitTree findOwner(World world, BlockPos leaf)
+    {
+        TileFruitTree owner = null;
+        for (TileFruitTree tree : findTrees(world, leaf, leaf))
+        {
+            if (owner == null || compare(tree.getPos(), owner.getPos()) < 0)
+            {
+                owner = tree;
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * Called when the leaf at given position has become ripe.
+     */
+    public static void onRipened(World world, BlockPos leaf)
+    {
+        for (TileFruitTree tree : findTrees(world, leaf, leaf))
+        {
+            tree.onLeafRipened(leaf);
+        }
+    }
+
+    /**
+     * Perform given action on every ripe fruit tree leaf in the box between
+     * given positions. The action may change the leaves.
+     */
+    public static void forEachRipeLeaf(World world, BlockPos from, BlockPos to, BiConsumer<BlockPos, IBlockState> action)
+    {
+        List<TileFruitTree> trees = findTrees(world, from, to);
+        List<BlockPos> found = new ArrayList<>();
+        for (TileFruitTree tree : trees)
+        {
+            LongIterator itr = tree.getRipeLeaves().iterator();
+            while (itr.hasNext())
+            {
+                BlockPos pos = BlockPos.fromLong(itr.nextLong());
+                if (!isInside(pos, from, to))
+                {
+                    continue;
+                }
+                if (isRipe(world.getBlockState(pos)))
+                {
+                    found.add(pos);
+                }
+                else
+                {
+                    itr.remove(); // Picked, decayed or broken since
+                }
+            }
+        }
+        // Leaves without a core, e.g. it has been broken, are still scanned
+        for (BlockPos.MutableBlockPos pos : BlockPos.getAllInBoxMutable(from, to))
+        {
+            if (!isOwned(trees, pos) && isRipe(world.getBlockState(pos)))
+            {
+                found.add(pos.toImmutable());
+            }
+        }
+        for (BlockPos pos : found)
+        {
+            // Owned by several trees, or changed by the previous actions
+            IBlockState state = world.getBlockState(pos);
+            if (isRipe(state))
+            {
+                action.accept(pos, state);
+            }
+        }
+    }
+
+    static boolean isRipe(IBlockState state)
+    {
+        return state.getBlock() instanceof BlockModLeaves && state.getValue(BlockModLeaves.AGE) == 3;
+    }
+
+    static boolean owns(BlockPos core, BlockPos leaf)
+    {
+        int dy = core.getY() - leaf.getY();
+        return Math.abs(core.getX() - leaf.getX()) <= RADIUS && Math.abs(core.getZ() - leaf.getZ()) <= RADIUS && dy >= 0 && dy <= DEPTH;
+    }
+
+    /**
+     * @return The trees owning any leaf in the box between given positions
+     */
+    private static List<TileFruitTree> findTrees(World world, BlockPos from, BlockPos to)
+    {
+        List<TileFruitTree> found = new ArrayList<>(1);
+        synchronized (CORES)
+        {
+            Long2ObjectMap<List<TileFruitTree>> cores = CORES.get(world);
+            if (cores == null)
+            {
+                return found;
+            }
+            for (int chunkX = (from.getX() - RADIUS) >> 4; chunkX <= (to.getX() + RADIUS) >> 4; chunkX++)
+            {
+                for (int chunkZ = (from.getZ() - RADIUS) >> 4; chunkZ <= (to.getZ() + RADIUS) >> 4; chunkZ++)
+                {
+                    List<TileFruitTree> trees = cores.get(ChunkPos.asLong(chunkX, chunkZ));
+                    if (trees == null)
+                    {
+                        continue;
+                    }
+                    for (TileFruitTree tree : trees)
+                    {
+                        BlockPos core = tree.getPos();
+                        if (!tree.isInvalid() && core.getX() >= from.getX() - RADIUS && core.getX() <= to.getX() + RADIUS && core.getZ() >= from.getZ() - RADIUS && core.getZ() <= to.getZ() + RADIUS && core.getY() >= from.getY() && core.getY() <= to.getY() + DEPTH)
+                        {
+                            found.add(tree);
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean isOwned(List<TileFruitTree> trees, BlockPos leaf)
+    {
+        for (TileFruitTree tree : trees)
+        {
+            if (owns(tree.getPos(), leaf))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInside(BlockPos pos, BlockPos from, BlockPos to)
+    {
+        return pos.getX() >= from.getX() && pos.getX() <= to.getX() && pos.getY() >= from.getY() && pos.getY() <= to.getY() && pos.getZ() >= from.getZ() && pos.getZ() <= to.getZ();
+    }
+
+    /**
+     * Order of positions in which {@link BlockPos#getAllInBoxMutable} visits
+     * them: z, then y, then x.
+     */
+    private static int compare(BlockPos a, BlockPos b)
+    {
+        if (a.getZ() != b.getZ())
+        {
+            return Integer.compare(a.getZ(), b.getZ());
+        }
+        if (a.getY() != b.getY())
+        {
+            return Integer.compare(a.getY(), b.getY());
+        }
+        return Integer.compare(a.getX(), b.getX());
+    }
+
+    private static long chunkOf(BlockPos pos)
+    {
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+}
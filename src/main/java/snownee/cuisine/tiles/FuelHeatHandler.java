@@ -3,21 +3,36 @@ package snownee.cuisine.tiles;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntityFurnace;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.oredict.OreDictionary;
 import snownee.cuisine.CuisineRegistry;
 import snownee.cuisine.api.FuelHandler;
 import snownee.cuisine.api.HeatHandler;
-import snownee.kiwi.util.OreUtil;
 import snownee.kiwi.util.definition.ItemDefinition;
 import snownee.kiwi.util.definition.OreDictDefinition;
 
 import java.util.HashMap;
 import java.util.Map;
-
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Heat model of fire pits.
+ * <p>
+ * If a clock is attached by {@link #setClock(LongSupplier)}, the state is
+ * advanced lazily: every read brings heat and burn time up to date by
+ * {@link #advance(long, float)}, which is equivalent to calling
+ * {@link #update(float)} once per elapsed tick. This allows the owner to stop
+ * ticking while nothing is burning.
+ */
 public class FuelHeatHandler implements HeatHandler, FuelHandler
 {
+    /**
+     * Returned by clocks when time is not available, e.g. the owner is not in a world yet.
+     */
+    public static final long NO_TIME = Long.MIN_VALUE;
+
     public static class FuelInfo
     {
         public final int level;
@@ -53,11 +68,13 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
         {
             return null;
         }
+        FuelTable.invalidate();
         return ITEM_FUELS.put(item, new FuelInfo(level, heat));
     }
 
     public static FuelInfo unregisterFuel(ItemDefinition item)
     {
+        FuelTable.invalidate();
         return ITEM_FUELS.remove(item);
     }
 
@@ -67,17 +84,33 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
         {
             return null;
         }
+        FuelTable.invalidate();
         return ORE_FUELS.put(ore, new FuelInfo(level, heat));
     }
 
     public static FuelInfo unregisterFuel(OreDictDefinition ore)
     {
+        FuelTable.invalidate();
         return ORE_FUELS.remove(ore);
     }
 
+    /**
+     * Drop the compiled fuel table, so that fuels registered through other
+     * means (e.g. vanilla fuel handlers) are picked up on the next query.
+     */
+    public static void invalidateFuelTable()
+    {
+        FuelTable.invalidate();
+    }
+
     private float encouragement = 0;
     private float burnTime = 0;
     private float heat, minHeat, maxHeat, heatPower, radiation;
+    @Nullable
+    private LongSupplier clock;
+    private long lastUpdate = NO_TIME;
+    @Nullable
+    private Runnable activityListener;
 
     public FuelHeatHandler()
     {
@@ -96,20 +129,118 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
         this.radiation = radiation;
     }
 
+    /**
+     * @param clock Source of current time in ticks, or {@link #NO_TIME} if unavailable
+     */
+    public void setClock(@Nullable LongSupplier clock)
+    {
+        this.clock = clock;
+        this.lastUpdate = NO_TIME;
+    }
+
+    /**
+     * @param listener Called whenever something that may start burning happens,
+     *            e.g. fuel being added
+     */
+    public void setActivityListener(@Nullable Runnable listener)
+    {
+        this.activityListener = listener;
+    }
+
+    private void onActivity()
+    {
+        if (activityListener != null)
+        {
+            activityListener.run();
+        }
+    }
+
     @Override
     public void update(float bonusRate)
+    {
+        long now = clock == null ? NO_TIME : clock.getAsLong();
+        if (now == NO_TIME || lastUpdate == NO_TIME)
+        {
+            tick(bonusRate);
+        }
+        else
+        {
+            advance(now - lastUpdate, bonusRate);
+        }
+        lastUpdate = now;
+    }
+
+    /**
+     * Bring the state up to date if a clock is attached.
+     */
+    private void settle()
+    {
+        if (clock == null)
+        {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (now != NO_TIME && lastUpdate != NO_TIME)
+        {
+            advance(now - lastUpdate, 0);
+        }
+        lastUpdate = now;
+    }
+
+    private void tick(float bonusRate)
     {
         if (burnTime > 0)
         {
             burnTime -= (1 + bonusRate) * (1 + encouragement);
             encouragement = Math.max(encouragement - 0.01F, 0);
             burnTime = MathHelper.clamp(burnTime, 0, getMaxBurnTime());
-            heat += getHeatPower();
+            heat += burnTime > 0 ? getMaxHeatPower() : 0;
         }
         heat -= radiation;
         heat = MathHelper.clamp(heat, minHeat, getMaxHeat());
     }
 
+    /**
+     * Closed-form equivalent of calling {@link #tick(float)} for given times.
+     * Encouragement fades within 100 ticks, which are simulated step by step;
+     * after that, both burn time and heat change linearly.
+     */
+    protected void advance(long ticks, float bonusRate)
+    {
+        while (ticks > 0 && burnTime > 0 && encouragement > 0)
+        {
+            tick(bonusRate);
+            --ticks;
+        }
+        if (ticks <= 0)
+        {
+            return;
+        }
+        if (burnTime > 0)
+        {
+            float rate = 1 + bonusRate;
+            long burning = Math.min(ticks, (long) Math.ceil(burnTime / rate));
+            burnTime = MathHelper.clamp(burnTime - burning * rate, 0, getMaxBurnTime());
+            // The tick that uses up the fuel only radiates
+            long heating = burnTime > 0 ? burning : burning - 1;
+            heat = linearStep(heat, getMaxHeatPower() - radiation, heating);
+            heat = linearStep(heat, -radiation, burning - heating);
+            ticks -= burning;
+        }
+        heat = linearStep(heat, -radiation, ticks);
+    }
+
+    private float linearStep(float value, float delta, long ticks)
+    {
+        if (ticks <= 0)
+        {
+            return value;
+        }
+        // Once clamped into range, a constant step never leaves it until reaching a bound
+        value = MathHelper.clamp(value + delta, minHeat, getMaxHeat());
+        return MathHelper.clamp(value + delta * (ticks - 1), minHeat, getMaxHeat());
+    }
+
     @Override
     public float getHeatPower()
     {
@@ -134,6 +265,7 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
 
     public void setMinHeat(float minHeat)
     {
+        settle();
         this.minHeat = minHeat;
     }
 
@@ -155,13 +287,16 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
     @Override
     public float getHeat()
     {
+        settle();
         return heat;
     }
 
     @Override
     public void setHeat(float heat)
     {
+        settle();
         this.heat = heat;
+        onActivity();
     }
 
     @Override
@@ -173,28 +308,36 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
     @Override
     public void addHeat(float delta)
     {
+        settle();
         heat = MathHelper.clamp(heat + delta, 0, getMaxHeat());
+        onActivity();
     }
 
     public void encourage()
     {
+        settle();
         encouragement = MathHelper.clamp(encouragement + 0.5F, 0, 1);
+        onActivity();
     }
 
     @Override
     public float getBurnTime()
     {
+        settle();
         return burnTime;
     }
 
     @Override
     public void setBurnTime(float burnTime)
     {
+        settle();
         this.burnTime = burnTime;
+        onActivity();
     }
 
     public int getLevel()
     {
+        settle();
         if (burnTime == 0)
         {
             return 0;
@@ -211,7 +354,9 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
     @Override
     public void addBurnTime(float delta)
     {
+        settle();
         burnTime = MathHelper.clamp(burnTime + delta, 0, getMaxBurnTime());
+        onActivity();
     }
 
     public ItemStack addFuel(ItemStack stack)
@@ -223,7 +368,7 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
             int max = info.level * 1000;
             if (getHeat() + 20 < max)
             {
-                float newBurnTime = Math.min(burnTime + info.heat, max);
+                float newBurnTime = Math.min(getBurnTime() + info.heat, max);
                 setBurnTime(newBurnTime);
                 stack.shrink(1);
             }
@@ -237,55 +382,18 @@ public class FuelHeatHandler implements HeatHandler, FuelHandler
         {
             return false;
         }
-        if (useVanillaFuels && TileEntityFurnace.getItemBurnTime(stack) > 0)
-        {
-            return true;
-        }
-        if (ITEM_FUELS.containsKey(ItemDefinition.of(stack)))
-        {
-            return true;
-        }
-        if (ITEM_FUELS.containsKey(ItemDefinition.of(stack.getItem(), OreDictionary.WILDCARD_VALUE)))
+        FuelTable.Entry entry = FuelTable.lookup(stack);
+        if (useVanillaFuels && entry.getVanillaBurnTime(stack) > 0)
         {
             return true;
         }
-        for (String ore : OreUtil.getOreNames(stack))
-        {
-            if (ORE_FUELS.containsKey(OreDictDefinition.of(ore)))
-            {
-                return true;
-            }
-        }
-        return false;
+        return entry.fuel != null;
     }
 
     public static FuelInfo getFuel(ItemStack stack)
     {
-        FuelInfo info = ITEM_FUELS.get(ItemDefinition.of(stack));
-        if (info == null)
-        {
-            info = ITEM_FUELS.get(ItemDefinition.of(stack.getItem(), OreDictionary.WILDCARD_VALUE));
-        }
-        if (info == null)
-        {
-            for (String ore : OreUtil.getOreNames(stack))
-            {
-                info = ORE_FUELS.get(OreDictDefinition.of(ore));
-                if (info != null)
-                {
-                    break;
-                }
-            }
-        }
-        if (info == null)
-        {
-            int burnTime = TileEntityFurnace.getItemBurnTime(stack);
-            if (burnTime > 0)
-            {
-                info = new FuelInfo(2, burnTime);
-            }
-        }
-        return info;
+        FuelTable.Entry entry = FuelTable.lookup(stack);
+        return entry.fuel != null ? entry.fuel : entry.getVanillaFuel(stack);
     }
 
 }
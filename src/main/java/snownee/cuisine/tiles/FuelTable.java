@@ -0,0 +1,134 @@
+package snownee.cuisine.tiles;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntityFurnace;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.oredict.OreDictionary;
+import snownee.cuisine.Cuisine;
+import snownee.cuisine.tiles.FuelHeatHandler.FuelInfo;
+import snownee.kiwi.util.definition.ItemDefinition;
+import snownee.kiwi.util.definition.OreDictDefinition;
+
+/**
+ * Compiled form of {@link FuelHeatHandler#ITEM_FUELS} and {@link FuelHeatHandler#ORE_FUELS},
+ * keyed by Item and metadata. Each entry is resolved on first query and kept
+ * until fuels are (un)registered or the ore dictionary changes.
+ */
+@Mod.EventBusSubscriber(modid = Cuisine.MODID)
+public final class FuelTable
+{
+    private static final Map<Item, Int2ObjectMap<Entry>> TABLE = new IdentityHashMap<>();
+
+    private FuelTable()
+    {
+        // No-op, only restricting access level
+    }
+
+    static synchronized Entry lookup(ItemStack stack)
+    {
+        Int2ObjectMap<Entry> byMeta = TABLE.computeIfAbsent(stack.getItem(), k -> new Int2ObjectOpenHashMap<>(4));
+        int meta = stack.getHasSubtypes() ? stack.getMetadata() : 0;
+        Entry entry = byMeta.get(meta);
+        if (entry == null)
+        {
+            byMeta.put(meta, entry = new Entry(compile(stack), TileEntityFurnace.getItemBurnTime(withoutTag(stack))));
+        }
+        return entry;
+    }
+
+    /**
+     * The burn time cached for an item and metadata shall not depend on the
+     * NBT of whichever stack is looked up first.
+     */
+    private static ItemStack withoutTag(ItemStack stack)
+    {
+        if (!stack.hasTagCompound())
+        {
+            return stack;
+        }
+        ItemStack copy = stack.copy();
+        copy.setTagCompound(null);
+        return copy;
+    }
+
+    static synchronized void invalidate()
+    {
+        TABLE.clear();
+    }
+
+    @Nullable
+    private static FuelInfo compile(ItemStack stack)
+    {
+        FuelInfo info = FuelHeatHandler.ITEM_FUELS.get(ItemDefinition.of(stack));
+        if (info == null)
+        {
+            info = FuelHeatHandler.ITEM_FUELS.get(ItemDefinition.of(stack.getItem(), OreDictionary.WILDCARD_VALUE));
+        }
+        if (info == null)
+        {
+            for (int id : OreDictionary.getOreIDs(stack))
+            {
+                info = FuelHeatHandler.ORE_FUELS.get(OreDictDefinition.of(OreDictionary.getOreName(id)));
+                if (info != null)
+                {
+                    break;
+                }
+            }
+        }
+        return info;
+    }
+
+    @SubscribeEvent
+    public static void onOreRegister(OreDictionary.OreRegisterEvent event)
+    {
+        invalidate();
+    }
+
+    static final class Entry
+    {
+        /**
+         * Fuel registered in Cuisine, or null if none
+         */
+        @Nullable
+        final FuelInfo fuel;
+        /**
+         * Cached vanilla burn time of stacks without NBT. Stacks with NBT may
+         * burn differently, so they are queried every time.
+         */
+        private final int vanillaBurnTime;
+        @Nullable
+        private final FuelInfo vanillaFuel;
+
+        private Entry(@Nullable FuelInfo fuel, int vanillaBurnTime)
+        {
+            this.fuel = fuel;
+            this.vanillaBurnTime = vanillaBurnTime;
+            this.vanillaFuel = vanillaBurnTime > 0 ? new FuelInfo(2, vanillaBurnTime) : null;
+        }
+
+        int getVanillaBurnTime(ItemStack stack)
+        {
+            return stack.hasTagCompound() ? TileEntityFurnace.getItemBurnTime(stack) : vanillaBurnTime;
+        }
+
+        @Nullable
+        FuelInfo getVanillaFuel(ItemStack stack)
+        {
+            if (stack.hasTagCompound())
+            {
+                int burnTime = TileEntityFurnace.getItemBurnTime(stack);
+                return burnTime > 0 ? new FuelInfo(2, burnTime) : null;
+            }
+            return vanillaFuel;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package snownee.cuisine.tiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandler;
+import snownee.cuisine.api.process.Processing;
+import snownee.cuisine.api.process.Vessel;
+
+/**
+ * Finds {@link Vessel} recipes for the slots of a jar. For each slot, the
+ * recipes whose solvent and main input fit are kept until the stack in that
+ * slot changes, or until the kind of fluid in the tank changes; each lookup
+ * then only checks amounts and extra requirements of those few candidates.
+ *
+ * 为泡菜坛的每个槽位缓存候选配方，只在槽位物品或液体种类改变时重新计算。
+ */
+final class JarRecipeMatcher
+{
+    private final IItemHandler inventory;
+    private final ItemStack[] keys;
+    private final List<List<Vessel>> candidates;
+    @Nullable
+    private Fluid solvent;
+
+    JarRecipeMatcher(IItemHandler inventory)
+    {
+        this.inventory = inventory;
+        this.keys = new ItemStack[inventory.getSlots()];
+        this.candidates = new ArrayList<>(inventory.getSlots());
+        for (int i = 0; i < inventory.getSlots(); i++)
+        {
+            this.candidates.add(null);
+        }
+    }
+
+    /**
+     * Forget all candidates, e.g. after the whole inventory is reloaded.
+     */
+    void invalidate()
+    {
+        Collections.fill(candidates, null);
+    }
+
+    /**
+     * @return The first recipe that matches any of the slots, in slot order
+     */
+    @Nullable
+    Vessel find(@Nullable FluidStack fluid)
+    {
+        for (int i = 0; i < inventory.getSlots(); i++)
+        {
+            Vessel recipe = find(fluid, i);
+            if (recipe != null)
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    Vessel find(@Nullable FluidStack fluid, int slot)
+    {
+        if (fluid == null)
+        {
+            return null;
+        }
+        if (fluid.getFluid() != solvent)
+        {
+            solvent = fluid.getFluid();
+            invalidate();
+        }
+        for (Vessel recipe : getCandidates(slot))
+        {
+            if (recipe.matches(fluid, inventory, slot))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    private List<Vessel> getCandidates(int slot)
+    {
+        ItemStack stack = inventory.getStackInSlot(slot);
+        List<Vessel> list = candidates.get(slot);
+        ItemStack key = keys[slot];
+        if (list != null && ItemStack.areItemStacksEqual(key, stack))
+        {
+            return list;
+        }
+        if (stack.isEmpty())
+        {
+            list = Collections.emptyList();
+        }
+        else
+        {
+            list = new ArrayList<>(2);
+            for (Vessel recipe : Processing.VESSEL.findCandidates(null, stack))
+            {
+                if (recipe.getSolvent() == solvent && recipe.getInput().matches(stack))
+                {
+                    list.add(recipe);
+                }
+            }
+        }
+        keys[slot] = stack.copy();
+        candidates.set(slot, list);
+        return list;
+    }
+}
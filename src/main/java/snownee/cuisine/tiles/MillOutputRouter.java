@@ -0,0 +1,104 @@
+package snownee.cuisine.tiles;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityDispenser;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+
+/**
+ * Pushes the products of a mill into the item handlers below and around it.
+ * <p>
+ * Neither tiles nor handlers are remembered between rounds: a tile may be
+ * replaced or show up without a block update, e.g. when its chunk loads,
+ * and a handler may be a wrapper that goes stale, such as the one of a
+ * double chest whose other half is broken. Checking a remembered tile is
+ * still the one at its position costs as much as looking it up anyway.
+ *
+ * 将磨的产物推入其下方及四周的物品容器；每次输出时重新获取，以免使用失效的容器。
+ */
+final class MillOutputRouter
+{
+    /**
+     * Sides products are pushed to, in order of preference
+     */
+    private static final EnumFacing[] SIDES = { EnumFacing.DOWN, EnumFacing.NORTH, EnumFacing.SOUTH, EnumFacing.WEST, EnumFacing.EAST };
+
+    private final TileEntity mill;
+
+    MillOutputRouter(TileEntity mill)
+    {
+        this.mill = mill;
+    }
+
+    /**
+     * @return true if any neighbor can take products at all, whether or not
+     *         it has room for them now
+     */
+    boolean hasTargets()
+    {
+        for (int i = 0; i < SIDES.length; i++)
+        {
+            if (getHandler(i) != null)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Push given stack into the neighbors.
+     *
+     * @return The part of the stack none of them has accepted
+     */
+    ItemStack insert(ItemStack stack)
+    {
+        for (int i = 0; i < SIDES.length && !stack.isEmpty(); i++)
+        {
+            IItemHandler handler = getHandler(i);
+            if (handler == null)
+            {
+                continue; // Ignore side that has no IItemHandler support
+            }
+            for (int slot = 0; slot < handler.getSlots(); slot++)
+            {
+                stack = handler.insertItem(slot, stack, false);
+                if (stack.isEmpty())
+                {
+                    break; // Stop when all items are distributed
+                }
+            }
+        }
+        return stack;
+    }
+
+    @Nullable
+    private IItemHandler getHandler(int i)
+    {
+        TileEntity target = getTarget(i);
+        return target == null ? null : target.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, SIDES[i].getOpposite());
+    }
+
+    @Nullable
+    private TileEntity getTarget(int i)
+    {
+        World world = mill.getWorld();
+        BlockPos pos = mill.getPos().offset(SIDES[i]);
+        if (!world.isBlockLoaded(pos))
+        {
+            return null; // Never load chunks only to push products
+        }
+        TileEntity target = world.getTileEntity(pos);
+        if (target == null || target.getClass() == TileEntityDispenser.class) // Ignore Dispenser // Is there a better way to do this?
+        {
+            return null;
+        }
+        return target;
+    }
+}
@@ -1,31 +1,42 @@
 package snownee.cuisine.tiles;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.annotation.Nullable;
 
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.entity.player.EntityPlayerMP;
-import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.EnumParticleTypes;
-import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
-import snownee.cuisine.api.CulinaryHub;
 import snownee.cuisine.api.Ingredient;
 import snownee.cuisine.internal.CuisinePersistenceCenter;
+import snownee.cuisine.tiles.TileWok.SeasoningInfo;
 import snownee.kiwi.network.PacketMod;
 
+/**
+ * All changes happened to one {@link TileWok} during a single tick, coalesced
+ * into one packet. Changes are applied on client side in this order: reset,
+ * added ingredients, seasoning info, stir actions.
+ */
 public class PacketIncrementalWokUpdate implements PacketMod
 {
 
+    private static final int FLAG_RESET = 1;
+    private static final int FLAG_SEASONING = 2;
+
     private BlockPos pos;
+    private boolean reset;
+    private final List<Ingredient> ingredients = new ArrayList<>(2);
+    private final List<ItemStack> stacks = new ArrayList<>(2);
     @Nullable
-    private Ingredient ingredient;
-    private ItemStack diff;
+    private SeasoningInfo seasoningInfo;
+    private int actions;
 
     public PacketIncrementalWokUpdate()
     {
@@ -33,39 +44,92 @@ public class PacketIncrementalWokUpdate implements PacketMod
     }
 
     /**
-     *
      * @param pos
      *            Position of TileEntity
-     * @param diff
-     *            The incremental update content
      */
-    PacketIncrementalWokUpdate(BlockPos pos, @Nullable Ingredient ingredient, ItemStack diff)
+    PacketIncrementalWokUpdate(BlockPos pos)
     {
         this.pos = pos;
-        this.ingredient = ingredient;
-        this.diff = diff;
+    }
+
+    /**
+     * Clear the wok. Anything recorded before is superseded.
+     */
+    void reset()
+    {
+        this.reset = true;
+        this.ingredients.clear();
+        this.stacks.clear();
+        this.seasoningInfo = null;
+    }
+
+    void addIngredient(Ingredient ingredient, ItemStack stack)
+    {
+        this.ingredients.add(ingredient);
+        this.stacks.add(stack);
+    }
+
+    void setSeasoningInfo(SeasoningInfo seasoningInfo)
+    {
+        SeasoningInfo copy = new SeasoningInfo();
+        copy.volume = seasoningInfo.volume;
+        copy.color = seasoningInfo.color;
+        this.seasoningInfo = copy;
+    }
+
+    void addAction()
+    {
+        ++this.actions;
     }
 
     @Override
     public void writeDataTo(ByteBuf buffer)
     {
         buffer.writeLong(pos.toLong());
-        ByteBufUtils.writeItemStack(buffer, diff);
-        if (ingredient != null)
+        buffer.writeByte((reset ? FLAG_RESET : 0) | (seasoningInfo != null ? FLAG_SEASONING : 0));
+        ByteBufUtils.writeVarShort(buffer, ingredients.size());
+        for (int i = 0; i < ingredients.size(); i++)
+        {
+            ByteBufUtils.writeItemStack(buffer, stacks.get(i));
+            ByteBufUtils.writeTag(buffer, CuisinePersistenceCenter.serialize(ingredients.get(i)));
+        }
+        if (seasoningInfo != null)
         {
-            ByteBufUtils.writeTag(buffer, CuisinePersistenceCenter.serialize(ingredient));
+            buffer.writeInt(seasoningInfo.volume);
+            if (seasoningInfo.volume > 0)
+            {
+                buffer.writeInt(seasoningInfo.color);
+            }
         }
+        ByteBufUtils.writeVarShort(buffer, actions);
     }
 
     @Override
     public void readDataFrom(ByteBuf buffer)
     {
         this.pos = BlockPos.fromLong(buffer.readLong());
-        this.diff = ByteBufUtils.readItemStack(buffer);
-        if (!diff.isEmpty())
+        int flags = buffer.readByte();
+        this.reset = (flags & FLAG_RESET) != 0;
+        int size = ByteBufUtils.readVarShort(buffer);
+        for (int i = 0; i < size; i++)
         {
-            this.ingredient = CuisinePersistenceCenter.deserializeIngredient(ByteBufUtils.readTag(buffer));
+            ItemStack stack = ByteBufUtils.readItemStack(buffer);
+            Ingredient ingredient = CuisinePersistenceCenter.deserializeIngredient(ByteBufUtils.readTag(buffer));
+            if (ingredient != null && !stack.isEmpty())
+            {
+                addIngredient(ingredient, stack);
+            }
         }
+        if ((flags & FLAG_SEASONING) != 0)
+        {
+            this.seasoningInfo = new SeasoningInfo();
+            this.seasoningInfo.volume = buffer.readInt();
+            if (this.seasoningInfo.volume > 0)
+            {
+                this.seasoningInfo.color = buffer.readInt();
+            }
+        }
+        this.actions = ByteBufUtils.readVarShort(buffer);
     }
 
     @Override
@@ -79,22 +143,24 @@ public class PacketIncrementalWokUpdate implements PacketMod
         }
         if (tile instanceof TileWok) // It is false if: 1. the area is not loaded or 2. target has no tile 3. we somehow got a tile mismatch.
         {
-            if (CulinaryHub.API_INSTANCE.isKnownIngredient(diff))
+            TileWok wok = (TileWok) tile;
+            if (reset)
+            {
+                wok.ingredientsForRendering.clear();
+                wok.seasoningInfo = null;
+            }
+            for (int i = 0; i < ingredients.size(); i++)
+            {
+                wok.ingredientsForRendering.put(ingredients.get(i), stacks.get(i));
+                wok.playIngredientAddedEffect();
+            }
+            if (seasoningInfo != null)
             {
-                ((TileWok) tile).ingredientsForRendering.put(ingredient, diff);
-
-                for (int k = 0; k < 4; ++k)
-                {
-                    double x = tile.getPos().getX() + 0.5D + tile.getWorld().rand.nextGaussian() * 0.2D;
-                    double z = tile.getPos().getZ() + tile.getWorld().rand.nextGaussian() * 0.2D;
-                    tile.getWorld().spawnParticle(EnumParticleTypes.EXPLOSION_NORMAL, x, tile.getPos().getY() + 0.25, z, 0D, 0.1D, 0D);
-                }
-                tile.getWorld().playSound(tile.getPos().getX() + 0.5D + tile.getWorld().rand.nextGaussian() * 0.2D, tile.getPos().getY() + 0.25, tile.getPos().getZ() + 0.5D + tile.getWorld().rand.nextGaussian() * 0.2D, SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS, 1F, 1F, true);
+                wok.seasoningInfo = seasoningInfo;
             }
-            else // When it's empty or it's bad packet
+            for (int i = 0; i < actions; i++)
             {
-                ((TileWok) tile).ingredientsForRendering.clear();
-                ((TileWok) tile).seasoningInfo = null;
+                wok.playActionEffect();
             }
         }
     }
@@ -0,0 +1,52 @@
+package snownee.cuisine.tiles;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.FurnaceRecipes;
+
+/**
+ * Memorizes {@link FurnaceRecipes#getSmeltingResult(ItemStack)} per Item and
+ * metadata, which is all that vanilla smelting recipes compare. An empty
+ * stack is cached for things that cannot be smelted.
+ * <p>
+ * Returned stacks are shared and must be copied before use.
+ */
+public final class SmeltingResultCache
+{
+    private static final Map<Item, Int2ObjectMap<ItemStack>> CACHE = new IdentityHashMap<>();
+
+    private SmeltingResultCache()
+    {
+        // No-op, only restricting access level
+    }
+
+    public static synchronized ItemStack getSmeltingResult(ItemStack stack)
+    {
+        if (stack.isEmpty())
+        {
+            return ItemStack.EMPTY;
+        }
+        Int2ObjectMap<ItemStack> byMeta = CACHE.computeIfAbsent(stack.getItem(), k -> new Int2ObjectOpenHashMap<>(4));
+        ItemStack result = byMeta.get(stack.getMetadata());
+        if (result == null)
+        {
+            byMeta.put(stack.getMetadata(), result = FurnaceRecipes.instance().getSmeltingResult(stack));
+        }
+        return result;
+    }
+
+    /**
+     * Drop all memorized results. Must be called whenever furnace recipes
+     * may have changed, e.g. on server start or after CraftTweaker scripts
+     * have been applied.
+     */
+    public static synchronized void invalidate()
+    {
+        CACHE.clear();
+    }
+}
@@ -3,7 +3,6 @@ package snownee.cuisine.tiles;
 import net.minecraft.block.Block;
 import net.minecraft.item.ItemFood;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.FurnaceRecipes;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -29,6 +28,19 @@ public class TileBarbecueRack extends TileFirePit
     public int[] burnTime = new int[3];
     public boolean[] completed = new boolean[3];
     private boolean isEmpty;
+    private final ComparatorLevel comparatorLevel = new ComparatorLevel(this, () -> {
+        int output = 0;
+        for (int i = 0; i < 3; ++i)
+        {
+            // Qualified since stacks is only assigned in the constructor
+            ItemStack stack = this.stacks.getStackInSlot(i);
+            if (!stack.isEmpty())
+            {
+                output += this.stacks.isItemValid(0, stack) ? 1 : 5;
+            }
+        }
+        return output;
+    });
 
     public TileBarbecueRack()
     {
@@ -59,7 +71,7 @@ public class TileBarbecueRack extends TileFirePit
             {
                 if (slot < 3)
                 {
-                    return stack.getItem() == CuisineRegistry.INGREDIENT || FurnaceRecipes.instance().getSmeltingResult(stack).getItem() instanceof ItemFood;
+                    return stack.getItem() == CuisineRegistry.INGREDIENT || SmeltingResultCache.getSmeltingResult(stack).getItem() instanceof ItemFood;
                 }
                 else
                 {
@@ -80,7 +92,8 @@ public class TileBarbecueRack extends TileFirePit
                     }
                 }
                 refreshEmpty();
-                refresh();
+                TileSync.schedule(TileBarbecueRack.this);
+                comparatorLevel.update();
             }
         };
     }
@@ -132,7 +145,7 @@ public class TileBarbecueRack extends TileFirePit
                     if (burnTime[i] >= 800)
                     {
                         burnTime[i] = 0;
-                        ItemStack result = FurnaceRecipes.instance().getSmeltingResult(stack);
+                        ItemStack result = SmeltingResultCache.getSmeltingResult(stack);
                         if (!result.isEmpty())
                         {
                             stacks.setStackInSlot(i, result.copy());
@@ -147,12 +160,22 @@ public class TileBarbecueRack extends TileFirePit
         }
     }
 
+    public int getComparatorLevel()
+    {
+        return comparatorLevel.get();
+    }
+
     @Override
     public void readFromNBT(NBTTagCompound compound)
     {
         super.readFromNBT(compound);
-        NBTHelper helper = NBTHelper.of(compound);
+        readContents(NBTHelper.of(compound));
+    }
+
+    private void readContents(NBTHelper helper)
+    {
         stacks.deserializeNBT(helper.getTag("Items", true));
+        comparatorLevel.reset();
         refreshEmpty();
         if (helper.hasTag("burnTime", Tag.INT_ARRAY))
         {
@@ -180,14 +203,7 @@ public class TileBarbecueRack extends TileFirePit
     public NBTTagCompound writeToNBT(NBTTagCompound compound)
     {
         NBTTagCompound tag = super.writeToNBT(compound);
-        tag.setIntArray("burnTime", burnTime);
-        int[] arr = new int[3];
-        for (int i = 0; i < completed.length; i++)
-        {
-            arr[i] = completed[i] ? 1 : 0;
-        }
-        tag.setIntArray("completed", arr);
-        tag.setTag("Items", this.stacks.serializeNBT());
+        writeContents(tag);
         return tag;
     }
 
@@ -195,14 +211,29 @@ public class TileBarbecueRack extends TileFirePit
     @Override
     protected NBTTagCompound writePacketData(NBTTagCompound data)
     {
-        return writeToNBT(data);
+        // Only what the client renders, not the whole tile with its capabilities
+        super.writePacketData(data);
+        writeContents(data);
+        return data;
     }
 
     @Override
     protected void readPacketData(NBTTagCompound data)
     {
-        readFromNBT(data);
-        refreshEmpty();
+        super.readPacketData(data);
+        readContents(NBTHelper.of(data));
+    }
+
+    private void writeContents(NBTTagCompound tag)
+    {
+        tag.setIntArray("burnTime", burnTime);
+        int[] arr = new int[3];
+        for (int i = 0; i < completed.length; i++)
+        {
+            arr[i] = completed[i] ? 1 : 0;
+        }
+        tag.setIntArray("completed", arr);
+        tag.setTag("Items", this.stacks.serializeNBT());
     }
 
     @Override
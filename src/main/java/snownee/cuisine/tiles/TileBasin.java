@@ -6,6 +6,7 @@ import javax.annotation.Nullable;
 import net.minecraft.inventory.InventoryHelper;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fluids.FluidEvent;
@@ -23,12 +24,19 @@ import snownee.kiwi.util.NBTHelper.Tag;
 
 public class TileBasin extends TileInventoryBase
 {
+    /**
+     * The slot passed to {@link #onContentsChanged(int)} when the tank changes
+     */
+    protected static final int TANK_SLOT = -1;
+    protected static final int SYNC_ITEMS = 1;
+    protected static final int SYNC_TANK = 2;
+
     public FluidTank tank = new FluidTank(8000)
     {
         @Override
         protected void onContentsChanged()
         {
-            TileBasin.this.onContentsChanged(0);
+            TileBasin.this.onContentsChanged(TANK_SLOT);
         }
 
         @Override
@@ -44,6 +52,11 @@ public class TileBasin extends TileInventoryBase
     public int tickCheckThrowing = 0;
     private float renderingAmount = 0;
     boolean squeezingFailed = false;
+    protected final TileSync sync = new TileSync(this);
+    private final ComparatorLevel comparatorLevel = new ComparatorLevel(this, () -> {
+        FluidStack content = tank.getFluid();
+        return content == null ? 0 : 1 + content.amount * 14 / tank.getCapacity();
+    });
 
     public TileBasin()
     {
@@ -99,6 +112,7 @@ public class TileBasin extends TileInventoryBase
     {
         super.readFromNBT(compound);
         tank.readFromNBT(compound.getCompoundTag("tank"));
+        comparatorLevel.reset();
         if (tank.getFluid() != null)
         {
             renderingAmount = tank.getFluid().amount;
@@ -118,8 +132,14 @@ public class TileBasin extends TileInventoryBase
     @Override
     protected void readPacketData(NBTTagCompound data)
     {
-        super.readPacketData(data);
-        tank.readFromNBT(data.getCompoundTag("tank"));
+        if (data.hasKey("Items", Tag.COMPOUND))
+        {
+            super.readPacketData(data);
+        }
+        if (data.hasKey("tank", Tag.COMPOUND))
+        {
+            tank.readFromNBT(data.getCompoundTag("tank"));
+        }
         if (data.hasKey("squeezingFailed", Tag.BYTE))
         {
             squeezingFailed = data.getBoolean("squeezingFailed");
@@ -129,9 +149,17 @@ public class TileBasin extends TileInventoryBase
     @Override
     protected NBTTagCompound writePacketData(NBTTagCompound data)
     {
-        super.writePacketData(data);
-        data.setTag("tank", tank.writeToNBT(new NBTTagCompound()));
-        return writeToNBT(data);
+        int groups = sync.poll();
+        if ((groups & SYNC_ITEMS) != 0)
+        {
+            super.writePacketData(data);
+        }
+        if ((groups & SYNC_TANK) != 0)
+        {
+            data.setTag("tank", tank.writeToNBT(new NBTTagCompound()));
+        }
+        data.setBoolean("squeezingFailed", squeezingFailed);
+        return data;
     }
 
     public void process(CuisineProcessingRecipeManager<BasinInteracting> recipeManager, ItemStack input, boolean simulated)
@@ -192,7 +220,34 @@ public class TileBasin extends TileInventoryBase
     public void onContentsChanged(int slot)
     {
         squeezingFailed = false;
-        refresh();
+        sync.mark(slot == TANK_SLOT ? SYNC_TANK : SYNC_ITEMS);
+        comparatorLevel.update();
+        if (hasWorld() && !world.isRemote)
+        {
+            // A squeezer above may be waiting for something to squeeze
+            TileEntity above = world.getTileEntity(pos.up());
+            if (above instanceof TileSqueezer)
+            {
+                TileTickScheduler.wake(above);
+            }
+        }
+    }
+
+    /**
+     * Send both the items and the tank, for changes made to them without
+     * going through their handlers, e.g. by recipes. Such changes are not
+     * seen by the comparator level either.
+     */
+    @Override
+    protected void refresh()
+    {
+        sync.mark(TileSync.ALL);
+        comparatorLevel.update();
+    }
+
+    public int getComparatorLevel()
+    {
+        return comparatorLevel.get();
     }
 
     public FluidStack getCurrentFluidContent()
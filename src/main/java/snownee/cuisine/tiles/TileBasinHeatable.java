@@ -26,7 +26,16 @@ public class TileBasinHeatable extends TileBasin implements ITickable
     public static final Map<Block, ItemStack> BLOCK_TO_ITEM = new HashMap<>();
     public static final Map<IBlockState, ItemStack> STATE_TO_ITEM = new HashMap<>();
     public static int HEATING_TICK = 1800;
+    /**
+     * How often a basin heated by sunlight checks whether it can still see the
+     * sun, since nothing notifies it about time, weather or blocks above.
+     */
+    private static final int SUNLIGHT_CHECK_INTERVAL = 20;
     protected int tick = 0;
+    /**
+     * World time up to which heating progress has been counted, server side only.
+     */
+    private long lastTick = -1;
     protected int heat = 0;
     protected boolean invLock = false;
     protected Boiling boilingRecipe;
@@ -69,16 +78,13 @@ public class TileBasinHeatable extends TileBasin implements ITickable
     {
         if (world.isRemote || boilingRecipe == null)
         {
+            TileTickScheduler.sleep(this);
             return;
         }
-        if (heat == 0 && !world.provider.isNether())
-        {
-            if (!world.provider.hasSkyLight() || !world.isDaytime() || world.isRaining() || !world.canSeeSky(pos))
-            {
-                return;
-            }
-        }
-        tick += getHeatingBoost(heat);
+        // Only ticks when a round of heating completes, or to check sunlight
+        long now = world.getTotalWorldTime();
+        boolean heating = isHeating();
+        settle(now, heating);
         if (tick >= HEATING_TICK)
         {
             tick = 0;
@@ -96,7 +102,47 @@ public class TileBasinHeatable extends TileBasin implements ITickable
                 onContentsChanged(0);
                 refresh();
             }
+            if (boilingRecipe == null)
+            {
+                TileTickScheduler.sleep(this);
+                return;
+            }
+        }
+        int boost = getHeatingBoost(heat);
+        int remaining = heating ? (HEATING_TICK - tick + boost - 1) / boost : SUNLIGHT_CHECK_INTERVAL;
+        if (isHeatedBySunlight())
+        {
+            remaining = Math.min(remaining, SUNLIGHT_CHECK_INTERVAL);
+        }
+        TileTickScheduler.sleepUntil(this, now + Math.max(remaining, 1));
+    }
+
+    private boolean isHeatedBySunlight()
+    {
+        return heat == 0 && !world.provider.isNether();
+    }
+
+    private boolean isHeating()
+    {
+        if (isHeatedBySunlight())
+        {
+            return world.provider.hasSkyLight() && world.isDaytime() && !world.isRaining() && world.canSeeSky(pos);
         }
+        return true;
+    }
+
+    /**
+     * Count heating progress made since last time, assuming that whether the
+     * basin is heated has not changed in between.
+     */
+    private void settle(long now, boolean heating)
+    {
+        if (lastTick >= 0 && heating)
+        {
+            long elapsed = Math.min(now - lastTick, HEATING_TICK);
+            tick = (int) Math.min(tick + getHeatingBoost(heat) * elapsed, HEATING_TICK);
+        }
+        lastTick = now;
     }
 
     public int getCurrentHeat()
@@ -106,7 +152,11 @@ public class TileBasinHeatable extends TileBasin implements ITickable
 
     public int getCurrentHeatingTick()
     {
-        return tick;
+        if (boilingRecipe == null || lastTick < 0 || world == null || world.isRemote || !isHeating())
+        {
+            return tick;
+        }
+        return (int) Math.min(tick + getHeatingBoost(heat) * Math.min(world.getTotalWorldTime() - lastTick, HEATING_TICK), HEATING_TICK);
     }
 
     public Boiling getCurrentHeatingRecipe()
@@ -147,6 +197,8 @@ public class TileBasinHeatable extends TileBasin implements ITickable
                 }
                 boilingRecipe = Processing.BOILING.findRecipe(stacks.getStackInSlot(0), tank.getFluid(), heat);
                 // on this stage, blockstates are not actual states
+                lastTick = world.getTotalWorldTime();
+                TileTickScheduler.wake(this);
             }
             tick = 0;
         }
@@ -182,7 +234,7 @@ public class TileBasinHeatable extends TileBasin implements ITickable
     public NBTTagCompound writeToNBT(NBTTagCompound compound)
     {
         compound.setInteger("heat", heat);
-        compound.setInteger("tick", tick);
+        compound.setInteger("tick", getCurrentHeatingTick());
         if (boilingRecipe != null)
         {
             compound.setString("recipe", boilingRecipe.getIdentifier().toString());
@@ -202,8 +254,27 @@ public class TileBasinHeatable extends TileBasin implements ITickable
         this.onContentsChanged(0);
     }
 
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        TileTickScheduler.forget(this);
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        TileTickScheduler.forget(this);
+    }
+
     public void updateHeat()
     {
+        if (!world.isRemote && boilingRecipe != null)
+        {
+            settle(world.getTotalWorldTime(), isHeating());
+            TileTickScheduler.wake(this);
+        }
         heat = getCurrentHeat();
         if (canWork())
         {
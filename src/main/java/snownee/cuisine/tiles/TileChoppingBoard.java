@@ -51,6 +51,15 @@ public class TileChoppingBoard extends TileInventoryBase
 
     public static final ItemStack DEFAULT_COVER = new ItemStack(Blocks.LOG);
     private ItemStack cover = ItemStack.EMPTY;
+    private final ComparatorLevel comparatorLevel = new ComparatorLevel(this, () -> {
+        ItemStack stack = stacks.getStackInSlot(0);
+        if (stack.isEmpty())
+        {
+            return 0;
+        }
+        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stack);
+        return ingredient == null ? 0 : ingredient.getForm().ordinal() + 1;
+    });
 
     public TileChoppingBoard()
     {
@@ -65,7 +74,7 @@ public class TileChoppingBoard extends TileInventoryBase
 
     public ItemStack insertItem(EntityPlayer player, ItemStack stack)
     {
-        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(stack);
+        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stack);
 
         if (ingredient != null && ingredient.getForm() != Form.JUICE && !ingredient.getMaterial().getValidForms().isEmpty() && (ingredient.getMaterial().getValidForms().size() > 1 || !ingredient.getMaterial().getValidForms().contains(Form.JUICE)) && stacks.getStackInSlot(0).isEmpty() && stack.getCount() >= 2 && SkillUtil.hasPlayerLearnedSkill(player, CulinaryHub.CommonSkills.DOUBLE_CHOPPING))
         {
@@ -92,7 +101,7 @@ public class TileChoppingBoard extends TileInventoryBase
         {
             return true;
         }
-        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(stack);
+        Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stack);
         return ingredient != null && ingredient.getForm() != Form.JUICE && !ingredient.getMaterial().getValidForms().isEmpty() && (ingredient.getMaterial().getValidForms().size() > 1 || !ingredient.getMaterial().getValidForms().contains(Form.JUICE));
     }
 
@@ -116,6 +125,7 @@ public class TileChoppingBoard extends TileInventoryBase
     public void readFromNBT(NBTTagCompound compound)
     {
         super.readFromNBT(compound);
+        comparatorLevel.reset();
         if (compound.hasKey("facing", Constants.NBT.TAG_INT))
         {
             facing = EnumFacing.byHorizontalIndex(compound.getInteger("facing"));
@@ -305,7 +315,7 @@ public class TileChoppingBoard extends TileInventoryBase
         Minecraft mc = Minecraft.getMinecraft();
         if (stack.getItem() == CuisineRegistry.INGREDIENT)
         {
-            Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(stack);
+            Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stack);
             if (ingredient == null)
             {
                 return;
@@ -375,5 +385,11 @@ public class TileChoppingBoard extends TileInventoryBase
     public void onContentsChanged(int slot)
     {
         refresh();
+        comparatorLevel.update();
+    }
+
+    public int getComparatorLevel()
+    {
+        return comparatorLevel.get();
     }
 }
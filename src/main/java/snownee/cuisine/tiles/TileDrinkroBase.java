@@ -148,11 +148,7 @@ public class TileDrinkroBase extends TileBase
     @Override
     protected void refresh()
     {
-        if (hasWorld() && !world.isRemote)
-        {
-            IBlockState state = world.getBlockState(pos);
-            world.markAndNotifyBlock(pos, null, state, state, 11);
-        }
+        TileSync.schedule(this);
     }
 
 }
@@ -5,6 +5,7 @@ import java.util.Optional;
 import javax.annotation.Nullable;
 
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -30,26 +31,31 @@ import snownee.cuisine.api.Ingredient;
 import snownee.cuisine.api.Seasoning;
 import snownee.cuisine.api.Spice;
 import snownee.cuisine.blocks.BlockDrinkro;
+import snownee.cuisine.debug.CapabilityAllocations;
 import snownee.cuisine.internal.food.Drink;
 import snownee.cuisine.internal.food.Drink.DrinkType;
 import snownee.kiwi.handler.Battery;
 import snownee.kiwi.tile.TileBase;
+import snownee.kiwi.util.NBTHelper.Tag;
 
 public class TileDrinkroTank extends TileBase implements CookingVessel
 {
     protected static class DrinkroFluidWrapper implements IFluidHandler
     {
+        private static final IFluidTankProperties[] NO_TANKS = new IFluidTankProperties[0];
+
         private final TileDrinkroTank tile;
 
         public DrinkroFluidWrapper(TileDrinkroTank tile)
         {
             this.tile = tile;
+            CapabilityAllocations.count();
         }
 
         @Override
         public IFluidTankProperties[] getTankProperties()
         {
-            return new IFluidTankProperties[0];
+            return NO_TANKS;
         }
 
         @Override
@@ -73,7 +79,7 @@ public class TileDrinkroTank extends TileBase implements CookingVessel
 
             while (amount >= 250 && i-- > 0)
             {
-                if (doFill && !tile.builder.addIngredient(null, ingredient.copy(), tile))
+                if (doFill && !tile.addIngredient(null, ingredient.copy()))
                 {
                     break;
                 }
@@ -97,8 +103,13 @@ public class TileDrinkroTank extends TileBase implements CookingVessel
 
     }
 
+    private static final int SYNC_INVENTORY = 1;
+    private static final int SYNC_BUILDER = 2;
+
     private boolean powered = false;
     protected boolean working = false;
+    private final TileSync sync = new TileSync(this);
+    private final DrinkroFluidWrapper fluidHandler = new DrinkroFluidWrapper(this);
     public Drink.Builder builder;
     public final ItemStackHandler inventory;
     @Nullable
@@ -169,7 +180,7 @@ public class TileDrinkroTank extends TileBase implements CookingVessel
             @Override
             protected void onContentsChanged(int slot)
             {
-                refresh();
+                sync.mark(SYNC_INVENTORY);
             }
 
         };
@@ -198,6 +209,22 @@ public class TileDrinkroTank extends TileBase implements CookingVessel
         this.powered = poweredIn;
     }
 
+    /**
+     * Add given juice into the drink being made, and send the change to
+     * clients.
+     *
+     * @return true if the ingredient has been added
+     */
+    public boolean addIngredient(@Nullable EntityPlayer cook, Ingredient ingredient)
+    {
+        if (builder.addIngredient(cook, ingredient, this))
+        {
+            sync.mark(SYNC_BUILDER);
+            return true;
+        }
+        return false;
+    }
+
     protected TileDrinkroBase getBase()
     {
         if (hasWorld())
@@ -214,6 +241,8 @@ public class TileDrinkroTank extends TileBase implements CookingVessel
     public void stopProcess()
     {
         working = false;
+        // Inputs are consumed and the builder replaced below
+        sync.mark(TileSync.ALL);
         if (battery != null && battery.getEnergyStored() < CuisineConfig.GENERAL.drinkroUsesFE)
         {
             return;
@@ -333,7 +362,7 @@ public class TileDrinkroTank extends TileBase implements CookingVessel
     {
         if (capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY)
         {
-            return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(new DrinkroFluidWrapper(this));
+            return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(fluidHandler);
         }
         if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY)
         {
@@ -378,24 +407,38 @@ public class TileDrinkroTank extends TileBase implements CookingVessel
     @Override
     protected void readPacketData(NBTTagCompound data)
     {
-        this.inventory.deserializeNBT(data.getCompoundTag("inventory"));
+        if (data.hasKey("inventory", Tag.COMPOUND))
+        {
+            this.inventory.deserializeNBT(data.getCompoundTag("inventory"));
+        }
         if (battery != null)
         {
             battery.readFromNBT(data);
         }
-        this.builder = Drink.Builder.fromNBT(data.getCompoundTag("builder"));
+        if (data.hasKey("builder", Tag.COMPOUND))
+        {
+            this.builder = Drink.Builder.fromNBT(data.getCompoundTag("builder"));
+        }
         this.working = data.getBoolean("working");
     }
 
     @Override
     protected NBTTagCompound writePacketData(NBTTagCompound data)
     {
-        data.setTag("inventory", this.inventory.serializeNBT());
+        int groups = sync.poll();
+        if ((groups & SYNC_INVENTORY) != 0)
+        {
+            data.setTag("inventory", this.inventory.serializeNBT());
+        }
+        if ((groups & SYNC_BUILDER) != 0)
+        {
+            data.setTag("builder", Drink.Builder.toNBT(builder));
+        }
+        // Energy changes are not tracked, so it is always sent along
         if (battery != null)
         {
             battery.writeToNBT(data);
         }
-        data.setTag("builder", Drink.Builder.toNBT(builder));
         data.setBoolean("working", this.working);
         return data;
     }
@@ -421,11 +464,7 @@ public class TileDrinkroTank extends TileBase implements CookingVessel
     @Override
     protected void refresh()
     {
-        if (hasWorld() && !world.isRemote)
-        {
-            IBlockState state = world.getBlockState(pos);
-            world.markAndNotifyBlock(pos, null, state, state, 11);
-        }
+        sync.mark(TileSync.ALL);
     }
 
     @Override
@@ -15,10 +15,43 @@ import javax.annotation.Nonnull;
 public class TileFirePit extends TileBase implements ITickable, IHeatable
 {
     public final FuelHeatHandler heatHandler;
+    private boolean minHeatCached = false;
 
     public TileFirePit()
     {
         heatHandler = new FuelHeatHandler(0, 230, 3, 0.6f);
+        heatHandler.setClock(() -> world != null ? world.getTotalWorldTime() : FuelHeatHandler.NO_TIME);
+        heatHandler.setActivityListener(this::wake);
+    }
+
+    @Override
+    public void onLoad()
+    {
+        cacheMinHeat();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        TileTickScheduler.forget(this);
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        TileTickScheduler.forget(this);
+    }
+
+    private void cacheMinHeat()
+    {
+        if (!minHeatCached && world != null)
+        {
+            // https://minecraft.gamepedia.com/Biome#Temperature
+            heatHandler.setMinHeat(world.getBiome(pos).getTemperature(pos) * 28);
+            minHeatCached = true;
+        }
     }
 
     @Override
@@ -68,9 +101,32 @@ public class TileFirePit extends TileBase implements ITickable, IHeatable
     @Override
     public void update()
     {
-        // https://minecraft.gamepedia.com/Biome#Temperature
-        heatHandler.setMinHeat(getWorld().getBiome(getPos()).getTemperature(getPos()) * 28);
+        cacheMinHeat();
         heatHandler.update(0);
+        if (isIdle())
+        {
+            TileTickScheduler.sleep(this);
+        }
+    }
+
+    /**
+     * @return true if ticking this is pointless until something happens. Heat
+     *         keeps fading while asleep, see {@link FuelHeatHandler#advance(long, float)}.
+     */
+    protected boolean isIdle()
+    {
+        return heatHandler.getBurnTime() <= 0;
+    }
+
+    /**
+     * Resume ticking, e.g. when fuel is added or a neighbor changes.
+     */
+    public void wake()
+    {
+        if (world != null)
+        {
+            TileTickScheduler.wake(this);
+        }
     }
 
     @Override
@@ -1,5 +1,10 @@
 package snownee.cuisine.tiles;
 
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
@@ -14,6 +19,13 @@ public class TileFruitTree extends TileBase
 {
     public BlockModSapling.Type type = BlockModSapling.Type.CITRON;
     private int deathRate = 0;
+    /**
+     * Positions of the ripe leaves this tree owns, found when first needed and
+     * then kept up to date by {@link FruitTreeCores}. May contain leaves that
+     * are no longer ripe.
+     */
+    @Nullable
+    private LongSet ripeLeaves;
 
     public TileFruitTree()
     {
@@ -29,6 +41,55 @@ public class TileFruitTree extends TileBase
         return ++deathRate;
     }
 
+    @Override
+    public void onLoad()
+    {
+        FruitTreeCores.add(this);
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        FruitTreeCores.remove(this);
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        FruitTreeCores.remove(this);
+    }
+
+    LongSet getRipeLeaves()
+    {
+        if (ripeLeaves == null)
+        {
+            // Do not load chunks around only to look for fruits
+            if (!world.isAreaLoaded(pos, Math.max(FruitTreeCores.RADIUS, FruitTreeCores.DEPTH)))
+            {
+                return LongSets.EMPTY_SET;
+            }
+            ripeLeaves = new LongOpenHashSet();
+            for (BlockPos leaf : BlockPos.getAllInBoxMutable(pos.add(-FruitTreeCores.RADIUS, -FruitTreeCores.DEPTH, -FruitTreeCores.RADIUS), pos.add(FruitTreeCores.RADIUS, 0, FruitTreeCores.RADIUS)))
+            {
+                if (FruitTreeCores.isRipe(world.getBlockState(leaf)))
+                {
+                    ripeLeaves.add(leaf.toLong());
+                }
+            }
+        }
+        return ripeLeaves;
+    }
+
+    void onLeafRipened(BlockPos leaf)
+    {
+        // Not collected yet, the leaf will be found then
+        if (ripeLeaves != null)
+        {
+            ripeLeaves.add(leaf.toLong());
+        }
+    }
+
     @Override
     public boolean shouldRefresh(World world, BlockPos pos, IBlockState oldState, IBlockState newState)
     {
@@ -14,10 +14,10 @@ import net.minecraftforge.fluids.FluidEvent;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
-import snownee.cuisine.api.process.Processing;
+import net.minecraftforge.items.ItemHandlerHelper;
 import snownee.cuisine.api.process.Vessel;
 import snownee.cuisine.network.PacketCustomEvent;
-import snownee.kiwi.network.NetworkChannel;
+import snownee.cuisine.network.PacketDispatcher;
 import snownee.kiwi.tile.TileInventoryBase;
 import snownee.kiwi.util.InventoryUtil;
 
@@ -29,6 +29,10 @@ public class TileJar extends TileInventoryBase implements ITickable
     private int processTime = 0;
     private boolean isWorking = false;
     private boolean invLock = false;
+    /**
+     * World time up to which processTime has been counted, server side only.
+     */
+    private long lastTick = -1;
 
     private final FluidTank tank = new FluidTank(10000)
     {
@@ -39,6 +43,9 @@ public class TileJar extends TileInventoryBase implements ITickable
         }
     };
 
+    private final JarRecipeMatcher matcher = new JarRecipeMatcher(stacks);
+    private final ComparatorLevel comparatorLevel = new ComparatorLevel(this, () -> ItemHandlerHelper.calcRedstoneFromInventory(stacks));
+
     public TileJar()
     {
         super(5);
@@ -50,56 +57,30 @@ public class TileJar extends TileInventoryBase implements ITickable
         return tank;
     }
 
-    private Object[][] populateInputs()
-    {
-        Object[][] inputs = new Object[stacks.getSlots()][this.stacks.getSlots() + 1];
-        for (int i = 0; i < stacks.getSlots(); i++)
-        {
-            inputs[i] = populateInputs(i);
-        }
-        return inputs;
-    }
-
-    private Object[] populateInputs(int slot)
-    {
-        Object[] inputs = new Object[this.stacks.getSlots() + 1];
-        inputs[0] = tank.getFluid();
-        inputs[1] = stacks.getStackInSlot(slot);
-        for (int j = 0; j < stacks.getSlots(); j++)
-        {
-            if (j != slot)
-            {
-                inputs[j + ((j < slot) ? 2 : 1)] = stacks.getStackInSlot(j);
-            }
-        }
-        return inputs;
-    }
-
     @Override
     public void onContentsChanged(int slot)
     {
         if (!invLock)
         {
             resetProcessing();
+            comparatorLevel.update();
         }
     }
 
+    public int getComparatorLevel()
+    {
+        return comparatorLevel.get();
+    }
+
     public void spillFluids()
     {
         FluidEvent.fireEvent(new FluidEvent.FluidSpilledEvent(tank.getFluid(), world, pos));
     }
 
+    @Nullable
     public Vessel findCurrentRecipe()
     {
-        Vessel recipe = null;
-        for (Object[] inputs : populateInputs())
-        {
-            if ((recipe = Processing.VESSEL.findRecipe(inputs)) != null)
-            {
-                break;
-            }
-        }
-        return recipe;
+        return matcher.find(tank.getFluid());
     }
 
     @Override
@@ -124,6 +105,55 @@ public class TileJar extends TileInventoryBase implements ITickable
     {
         this.isWorking = working;
         processTime = working ? TOTAL_TICK : 0;
+        if (working)
+        {
+            TileTickScheduler.wake(this);
+        }
+    }
+
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        if (!world.isRemote)
+        {
+            lastTick = world.getTotalWorldTime();
+        }
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        TileTickScheduler.forget(this);
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        TileTickScheduler.forget(this);
+    }
+
+    /**
+     * @return The tick count at which the current processing round completes
+     */
+    private int nextRound()
+    {
+        return (processTime / TOTAL_TICK + 1) * TOTAL_TICK;
+    }
+
+    /**
+     * @return Processing time as if the jar had been ticking all the time,
+     *         stopping right before the current round completes
+     */
+    private int getProgress()
+    {
+        if (!isWorking || lastTick < 0 || world == null)
+        {
+            return processTime;
+        }
+        return (int) Math.min(processTime + world.getTotalWorldTime() - lastTick, nextRound() - 1);
     }
 
     @Override
@@ -131,7 +161,18 @@ public class TileJar extends TileInventoryBase implements ITickable
     {
         if (!world.isRemote)
         {
-            if (isWorking && ++processTime % TOTAL_TICK == 0)
+            // Only ticks when a round completes, or when the content has changed
+            long now = world.getTotalWorldTime();
+            int elapsed = lastTick < 0 ? 1 : (int) Math.min(now - lastTick, TOTAL_TICK);
+            lastTick = now;
+            if (!isWorking)
+            {
+                TileTickScheduler.sleep(this);
+                return;
+            }
+            int next = nextRound();
+            processTime = Math.min(processTime + elapsed, next);
+            if (processTime == next)
             {
                 invLock = true;
                 for (int i = 0; i < stacks.getSlots(); i++)
@@ -142,7 +183,7 @@ public class TileJar extends TileInventoryBase implements ITickable
                     {
                         continue;
                     }
-                    Vessel recipe = Processing.VESSEL.findRecipe(populateInputs(i));
+                    Vessel recipe = matcher.find(tank.getFluid(), i);
                     if (recipe == null)
                     {
                         continue;
@@ -162,10 +203,22 @@ public class TileJar extends TileInventoryBase implements ITickable
                 }
                 invLock = false;
                 resetProcessing();
-                world.updateComparatorOutputLevel(this.pos, this.blockType);
+                comparatorLevel.update();
+            }
+            if (isWorking)
+            {
+                TileTickScheduler.sleepUntil(this, now + nextRound() - processTime);
+            }
+            else
+            {
+                TileTickScheduler.sleep(this);
             }
         }
-        else if (isWorking)
+        else if (!isWorking || processTime <= 0)
+        {
+            TileTickScheduler.sleep(this);
+        }
+        else
         {
             if (--processTime > 0 && processTime % 10 == 0)
             {
@@ -189,9 +242,14 @@ public class TileJar extends TileInventoryBase implements ITickable
             {
                 processTime = 0;
             }
+            else if (!lastWorking)
+            {
+                lastTick = world.getTotalWorldTime();
+            }
+            TileTickScheduler.wake(this);
             if (isWorking || !lastWorking)
             {
-                NetworkChannel.INSTANCE.sendToDimension(new PacketCustomEvent(5, this.pos, isWorking ? 1 : 0), this.getWorld().provider.getDimension());
+                PacketDispatcher.sendToWatching(new PacketCustomEvent(5, this.pos, isWorking ? 1 : 0), this.getWorld(), this.pos);
             }
             refresh();
         }
@@ -206,6 +264,7 @@ public class TileJar extends TileInventoryBase implements ITickable
         processTime = compound.getInteger("progress");
         tank.readFromNBT(compound.getCompoundTag("tank"));
         invLock = false;
+        comparatorLevel.reset();
         resetProcessing();
     }
 
@@ -215,7 +274,7 @@ public class TileJar extends TileInventoryBase implements ITickable
     {
         super.writeToNBT(compound);
         compound.setBoolean("working", this.isWorking);
-        compound.setInteger("progress", this.processTime);
+        compound.setInteger("progress", getProgress());
         compound.setTag("tank", tank.writeToNBT(new NBTTagCompound()));
         return compound;
     }
@@ -2,19 +2,15 @@ package snownee.cuisine.tiles;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.EnumSet;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.google.common.collect.ImmutableMap;
 
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.tileentity.TileEntityDispenser;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.ResourceLocation;
@@ -31,10 +27,12 @@ import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 import snownee.cuisine.Cuisine;
 import snownee.cuisine.CuisineConfig;
 import snownee.cuisine.api.process.Milling;
 import snownee.cuisine.api.process.Processing;
+import snownee.cuisine.debug.CapabilityAllocations;
 import snownee.cuisine.library.FilterFluidHandler;
 import snownee.cuisine.library.FilterItemHandler;
 import snownee.cuisine.library.SingleSlotItemHandler;
@@ -67,10 +65,31 @@ public class TileMill extends TileBase implements ITickable
     private int tick = 0;
     private int power = 0;
     private int cycle = 0;
+    /**
+     * World time up to which power and tick have been counted, server side only.
+     */
+    private long lastTick = -1;
 
-    private final SingleSlotItemHandler inputBuffer = new SingleSlotItemHandler();
+    private final SingleSlotItemHandler inputBuffer = new SingleSlotItemHandler()
+    {
+        @Override
+        protected void onContentsChanged()
+        {
+            comparatorLevel.update();
+        }
+    };
+    private final ComparatorLevel comparatorLevel = new ComparatorLevel(this, () -> ItemHandlerHelper.calcRedstoneFromInventory(inputBuffer));
     private final FluidTank fluidInput = new FluidTank(Fluid.BUCKET_VOLUME);
     private final FluidTank fluidOutput = new FluidTank(Fluid.BUCKET_VOLUME);
+    // Handlers exposed as capabilities, created once since pipes query them every transfer
+    private final IItemHandler itemHandler = new FilterItemHandler(this.inputBuffer, TileMill::isItemValid);
+    private final IFluidHandler fluidHandler = new MillFluidHandler(new FilterFluidHandler(this.fluidInput, Milling::isKnownMillingInput), this.fluidOutput);
+    private final MillOutputRouter outputRouter = new MillOutputRouter(this);
+    /**
+     * Products the neighbors had no room for, pushed again before the next
+     * round. Grinding stops while it is not empty.
+     */
+    private ItemStack outputBuffer = ItemStack.EMPTY;
 
     public TileMill()
     {
@@ -92,13 +111,14 @@ public class TileMill extends TileBase implements ITickable
             return;
         }
 
+        catchUp();
         if (power + CuisineConfig.GENERAL.millWorkPeriod / 5 <= CuisineConfig.GENERAL.millWorkPeriod)
         {
             power += CuisineConfig.GENERAL.millWorkPeriod / 5;
+            TileTickScheduler.wake(this);
             playerIn.addExhaustion(1);
             //SkillUtil.increasePoint(playerIn, CulinarySkillPoint.PROFICIENCY, 1);
-            IBlockState state = this.world.getBlockState(this.pos);
-            this.world.notifyBlockUpdate(this.pos, state, state, 1 | 2);
+            TileSync.schedule(this);
         }
     }
 
@@ -107,38 +127,141 @@ public class TileMill extends TileBase implements ITickable
         return power > 0;
     }
 
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        if (!world.isRemote)
+        {
+            lastTick = world.getTotalWorldTime();
+        }
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        TileTickScheduler.forget(this);
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        TileTickScheduler.forget(this);
+    }
+
     @Override
     public void update()
     {
+        if (!world.isRemote)
+        {
+            // Only ticks when a grinding round completes or power runs out
+            catchUp();
+            int period = CuisineConfig.GENERAL.millWorkPeriod;
+            if (isWorking())
+            {
+                // While products are waiting for room downstream, only look again once in a while
+                int wait = outputBuffer.isEmpty() ? Math.min(power, Math.max(period - tick, 1)) : period;
+                TileTickScheduler.sleepUntil(this, lastTick + wait);
+            }
+            else
+            {
+                TileTickScheduler.sleep(this);
+            }
+            return;
+        }
         if (!isWorking())
         {
+            TileTickScheduler.sleep(this);
             return;
         }
         --this.power;
-        if (!world.isRemote)
+        if (++this.cycle >= CuisineConfig.GENERAL.millWorkPeriod)
+        {
+            this.cycle = 0;
+        }
+        progressValue.setValue((float) this.cycle / CuisineConfig.GENERAL.millWorkPeriod);
+    }
+
+    /**
+     * Count the ticks elapsed since last time on server side, as if the mill
+     * had been ticking all the time.
+     */
+    private void catchUp()
+    {
+        if (world == null || world.isRemote)
+        {
+            return;
+        }
+        long now = world.getTotalWorldTime();
+        int elapsed = lastTick < 0 ? 1 : (int) Math.min(now - lastTick, Integer.MAX_VALUE);
+        lastTick = now;
+        if (!flushOutput())
         {
-            if (++tick >= CuisineConfig.GENERAL.millWorkPeriod)
+            return; // Power is kept while the output is blocked
+        }
+        int period = CuisineConfig.GENERAL.millWorkPeriod;
+        while (elapsed > 0 && isWorking() && outputBuffer.isEmpty())
+        {
+            int step = Math.min(elapsed, Math.min(power, Math.max(period - tick, 1)));
+            elapsed -= step;
+            power -= step;
+            tick += step;
+            if (tick >= period)
             {
                 process();
-                IBlockState state = this.world.getBlockState(this.pos);
-                this.world.updateComparatorOutputLevel(this.pos, this.blockType);
+                comparatorLevel.update();
                 this.tick = 0;
-                this.markDirty(); // Think the "flush()" call when dealing with output stream
-                this.world.notifyBlockUpdate(this.pos, state, state, 1 | 2);
+                // Think the "flush()" call when dealing with output stream, comparators have been taken care of.
+                // Rounds caught up at once still end up in a single update
+                TileSync.schedule(this);
             }
         }
-        else
+    }
+
+    /**
+     * Count the ticks worked since last time without running any round, for
+     * saving. A round completing is left to the next tick after loading.
+     */
+    private int getWorkedTicks()
+    {
+        if (world == null || world.isRemote || lastTick < 0 || !outputBuffer.isEmpty())
         {
-            if (++this.cycle >= CuisineConfig.GENERAL.millWorkPeriod)
-            {
-                this.cycle = 0;
-            }
-            progressValue.setValue((float) this.cycle / CuisineConfig.GENERAL.millWorkPeriod);
+            return 0;
+        }
+        long elapsed = world.getTotalWorldTime() - lastTick;
+        int period = CuisineConfig.GENERAL.millWorkPeriod;
+        return (int) Math.max(Math.min(elapsed, Math.min(power, period - 1 - tick)), 0);
+    }
+
+    /**
+     * Push the products waiting for room downstream again. If no neighbor can
+     * take products any more, they are spilled into the world instead.
+     *
+     * @return true if no product is left waiting
+     */
+    private boolean flushOutput()
+    {
+        if (outputBuffer.isEmpty())
+        {
+            return true;
         }
+        outputBuffer = outputRouter.insert(outputBuffer);
+        if (!outputBuffer.isEmpty() && !outputRouter.hasTargets())
+        {
+            StacksUtil.spawnItemStack(this.world, this.pos, outputBuffer, true);
+            outputBuffer = ItemStack.EMPTY;
+        }
+        return outputBuffer.isEmpty();
     }
 
     private void process()
     {
+        if (!flushOutput())
+        {
+            return; // Downstream is still full
+        }
         Milling recipe = Processing.MILLING.findRecipe(this.inputBuffer.getRawContent(), this.fluidInput.getTankProperties()[0].getContents());
         if (recipe != null)
         {
@@ -152,35 +275,17 @@ public class TileMill extends TileBase implements ITickable
 
             if (!recipe.getOutput().isEmpty())
             {
-                ItemStack finalOutput = recipe.getOutput().copy();
-                for (EnumFacing direction : EnumSet.complementOf(EnumSet.of(EnumFacing.UP)))
+                ItemStack finalOutput = outputRouter.insert(recipe.getOutput().copy());
+                if (!finalOutput.isEmpty())
                 {
-                    TileEntity target = this.world.getTileEntity(this.pos.offset(direction));
-                    if (target == null || target.getClass() == TileEntityDispenser.class)
-                    {
-                        continue; // Ignore non-exist tile entity & Dispenser // Is there a better way to do this?
-                    }
-                    IItemHandler targetInv = target.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, direction.getOpposite());
-                    if (targetInv == null)
+                    if (outputRouter.hasTargets())
                     {
-                        continue; // Ignore side that has no IItemHandler support
+                        outputBuffer = finalOutput; // Keep it until there is room
                     }
-                    for (int i = 0; i < targetInv.getSlots(); i++)
+                    else // And eject the remainder to the world
                     {
-                        finalOutput = targetInv.insertItem(i, finalOutput, false);
-                        if (finalOutput.isEmpty())
-                        {
-                            break; // Stop when all items are distributed
-                        }
+                        StacksUtil.spawnItemStack(this.getWorld(), this.getPos(), finalOutput, true);
                     }
-                    if (finalOutput.isEmpty())
-                    {
-                        break; // Stop when all items are distributed
-                    }
-                }
-                if (!finalOutput.isEmpty()) // And eject the remainder to the world
-                {
-                    StacksUtil.spawnItemStack(this.getWorld(), this.getPos(), finalOutput, true);
                 }
             }
 
@@ -212,6 +317,43 @@ public class TileMill extends TileBase implements ITickable
         return this.inputBuffer.getRawContent();
     }
 
+    /**
+     * Spawn the content of input buffer into the world, e.g. when a player
+     * takes it back.
+     */
+    public void ejectItemContent()
+    {
+        StacksUtil.spawnItemStack(this.world, this.pos, this.inputBuffer.getRawContent(), true);
+        comparatorLevel.update();
+        ejectOutputContent();
+    }
+
+    /**
+     * Spawn the products waiting for room downstream into the world, e.g.
+     * when the mill is broken.
+     */
+    public void ejectOutputContent()
+    {
+        if (!this.outputBuffer.isEmpty())
+        {
+            StacksUtil.spawnItemStack(this.world, this.pos, this.outputBuffer, true);
+            this.outputBuffer = ItemStack.EMPTY;
+        }
+    }
+
+    public void onNeighborChanged()
+    {
+        if (!outputBuffer.isEmpty() && isWorking())
+        {
+            TileTickScheduler.wake(this); // Downstream may have room or be gone now
+        }
+    }
+
+    public int getComparatorLevel()
+    {
+        return comparatorLevel.get();
+    }
+
     @Nonnull
     @Override
     public NBTTagCompound writePacketData(NBTTagCompound data)
@@ -224,17 +366,26 @@ public class TileMill extends TileBase implements ITickable
     public void readPacketData(NBTTagCompound data)
     {
         this.power = data.getInteger("power");
+        if (isWorking())
+        {
+            TileTickScheduler.wake(this);
+        }
     }
 
     @Nonnull
     @Override
     public NBTTagCompound writeToNBT(NBTTagCompound compound)
     {
+        int worked = getWorkedTicks();
         compound.setTag("item", inputBuffer.getRawContent().serializeNBT());
         compound.setTag("fluidInput", fluidInput.writeToNBT(new NBTTagCompound()));
         compound.setTag("fluidOutput", fluidOutput.writeToNBT(new NBTTagCompound()));
-        compound.setInteger("progress", tick);
-        compound.setInteger("power", power);
+        compound.setInteger("progress", tick + worked);
+        compound.setInteger("power", power - worked);
+        if (!outputBuffer.isEmpty())
+        {
+            compound.setTag("output", outputBuffer.serializeNBT());
+        }
         return super.writeToNBT(compound);
     }
 
@@ -246,6 +397,7 @@ public class TileMill extends TileBase implements ITickable
         fluidInput.readFromNBT(compound.getCompoundTag("fluidInput"));
         fluidOutput.readFromNBT(compound.getCompoundTag("fluidOutput"));
         tick = compound.getInteger("progress");
+        outputBuffer = new ItemStack(compound.getCompoundTag("output"));
         if (compound.hasKey("power", Tag.INT))
         {
             power = compound.getInteger("power");
@@ -269,7 +421,7 @@ public class TileMill extends TileBase implements ITickable
         else if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY)
         {
             // Use a filter decorator to make sure we filter the input in advance
-            return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(new FilterItemHandler(this.inputBuffer, TileMill::isItemValid));
+            return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(this.itemHandler);
         }
         else if (capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY)
         {
@@ -279,7 +431,7 @@ public class TileMill extends TileBase implements ITickable
             }
             else
             {
-                return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(new MillFluidHandler(new FilterFluidHandler(this.fluidInput, Milling::isKnownMillingInput), this.fluidOutput));
+                return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(this.fluidHandler);
             }
         }
         else
@@ -309,23 +461,38 @@ public class TileMill extends TileBase implements ITickable
     {
 
         private final IFluidHandler input, output;
+        /**
+         * Properties combined last time, reused until either handler returns
+         * a different array
+         */
+        private IFluidTankProperties[] inputProperties, outputProperties, properties;
 
         MillFluidHandler(IFluidHandler input, IFluidHandler output)
         {
             this.input = input;
             this.output = output;
+            CapabilityAllocations.count();
         }
 
         @Override
         public IFluidTankProperties[] getTankProperties()
         {
+            IFluidTankProperties[] inputProperties = input.getTankProperties();
+            IFluidTankProperties[] outputProperties = output.getTankProperties();
+            if (inputProperties == this.inputProperties && outputProperties == this.outputProperties)
+            {
+                return this.properties;
+            }
             ArrayList<IFluidTankProperties> properties = new ArrayList<>();
-            Collections.addAll(properties, input.getTankProperties());
-            for (IFluidTankProperties outputProperties : output.getTankProperties())
+            Collections.addAll(properties, inputProperties);
+            for (IFluidTankProperties parent : outputProperties)
             {
-                properties.add(new OutputOnlyTankProperties(outputProperties));
+                properties.add(new OutputOnlyTankProperties(parent));
             }
-            return properties.toArray(new IFluidTankProperties[0]);
+            CapabilityAllocations.count();
+            this.inputProperties = inputProperties;
+            this.outputProperties = outputProperties;
+            return this.properties = properties.toArray(new IFluidTankProperties[0]);
         }
 
         @Override
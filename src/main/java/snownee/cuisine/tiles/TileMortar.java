@@ -23,12 +23,25 @@ public class TileMortar extends TileInventoryBase
     public boolean pestle = false;
     private Grinding recipe;
     private boolean makingPaste;
+    private final ComparatorLevel comparatorLevel = new ComparatorLevel(this, () -> ItemHandlerHelper.calcRedstoneFromInventory(stacks));
 
     public TileMortar()
     {
         super(5);
     }
 
+    @Override
+    public void onContentsChanged(int slot)
+    {
+        super.onContentsChanged(slot);
+        comparatorLevel.update();
+    }
+
+    public int getComparatorLevel()
+    {
+        return comparatorLevel.get();
+    }
+
     public void process(EntityPlayer player)
     {
         pestle = !pestle;
@@ -60,7 +73,7 @@ public class TileMortar extends TileInventoryBase
             {
                 processTime = 0;
                 ItemStack input = this.stacks.getStackInSlot(0);
-                Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(stacks.getStackInSlot(0));
+                Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stacks.getStackInSlot(0));
                 if (ingredient != null && ingredient.getForm() != Form.PASTE && ingredient.getForm() != Form.JUICE && ingredient.getMaterial().isValidForm(Form.PASTE))
                 {
                     Ingredient newIngredient = ingredient.copy();
@@ -69,6 +82,7 @@ public class TileMortar extends TileInventoryBase
                     StacksUtil.spawnItemStack(world, getPos(), output, true);
                     this.recipe = null; // Stop things from happening
                     input.shrink(1);
+                    comparatorLevel.update();
                     SkillUtil.increasePoint(player, CulinarySkillPoint.PROFICIENCY, 3);
                 }
                 makingPaste = false;
@@ -79,7 +93,7 @@ public class TileMortar extends TileInventoryBase
             recipe = Processing.GRINDING.findRecipe(stacks.getStacks().toArray(new Object[5]));
             if (recipe == null)
             {
-                Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredient(stacks.getStackInSlot(0));
+                Ingredient ingredient = CulinaryHub.API_INSTANCE.findIngredientPrototype(stacks.getStackInSlot(0));
                 if (ingredient != null && ingredient.getForm() != Form.PASTE && ingredient.getForm() != Form.JUICE && ingredient.getMaterial().isValidForm(Form.PASTE))
                 {
                     makingPaste = true;
@@ -108,6 +122,7 @@ public class TileMortar extends TileInventoryBase
     public void readFromNBT(NBTTagCompound compound)
     {
         super.readFromNBT(compound);
+        comparatorLevel.reset();
         pestle = compound.getBoolean("Pestle");
         processTime = compound.getInteger("ProcessTime");
     }
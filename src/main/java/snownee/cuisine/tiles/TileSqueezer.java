@@ -13,7 +13,7 @@ import net.minecraft.util.ITickable;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
 import net.minecraftforge.client.model.animation.Animation;
-import net.minecraftforge.common.animation.TimeValues;
+import net.minecraftforge.common.animation.ITimeValue;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.model.animation.CapabilityAnimation;
 import net.minecraftforge.common.model.animation.IAnimationStateMachine;
@@ -23,6 +23,7 @@ import snownee.cuisine.CuisineConfig;
 import snownee.cuisine.api.process.Processing;
 import snownee.kiwi.handler.Battery;
 import snownee.kiwi.tile.TileBase;
+import snownee.kiwi.util.NBTHelper.Tag;
 
 public class TileSqueezer extends TileBase implements ITickable
 {
@@ -51,19 +52,32 @@ public class TileSqueezer extends TileBase implements ITickable
 
     private final IAnimationStateMachine stateMachine;
 
-    private final TimeValues.VariableValue extensionOffset = new TimeValues.VariableValue(0F);
-
+    /**
+     * Extension progress, 0 to 100. While the arm is moving, this is the
+     * progress at {@link #moveStart}.
+     */
     private int extensionProgress;
 
+    /**
+     * World time at which the arm started its current movement, or -1 if the
+     * arm is not moving. Clients interpolate the arm position from it.
+     */
+    private long moveStart = -1;
+
     private State state = State.EXTRACTED;
 
     private boolean isInWorkCycle = false;
 
+    /**
+     * Whether this block is powered by redstone, updated on neighbor changes.
+     */
+    private boolean powered = false;
+
     private final Battery battery;
 
     public TileSqueezer()
     {
-        this.stateMachine = Cuisine.sidedDelegate.loadAnimationStateMachine(STATE_MACHINE, ImmutableMap.of("offset", this.extensionOffset));
+        this.stateMachine = Cuisine.sidedDelegate.loadAnimationStateMachine(STATE_MACHINE, ImmutableMap.<String, ITimeValue>of("offset", input -> getRenderOffset()));
         if (CuisineConfig.GENERAL.squeezerUsesFE > 0)
         {
             battery = new Battery(CuisineConfig.GENERAL.squeezerUsesFE * 50, CuisineConfig.GENERAL.squeezerUsesFE, 0)
@@ -72,6 +86,7 @@ public class TileSqueezer extends TileBase implements ITickable
                 protected void onEnergyChanged()
                 {
                     refresh();
+                    TileTickScheduler.wake(TileSqueezer.this);
                 }
             };
         }
@@ -82,141 +97,236 @@ public class TileSqueezer extends TileBase implements ITickable
     }
 
     @Override
-    public void update()
+    public void onLoad()
     {
-        boolean triggered = this.world.isBlockPowered(this.pos); //TODO: better implement
-        if (battery != null)
+        super.onLoad();
+        if (!world.isRemote)
         {
-            triggered = !triggered;
+            powered = world.isBlockPowered(pos);
+            if (moveStart >= 0)
+            {
+                // Movement resumes from where it was saved
+                moveStart = world.getTotalWorldTime();
+            }
         }
-        if (battery == null)
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        TileTickScheduler.forget(this);
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        TileTickScheduler.forget(this);
+    }
+
+    /**
+     * Called by {@link snownee.cuisine.blocks.BlockSqueezer} when a neighbor
+     * changes, on server side.
+     */
+    public void neighborChanged()
+    {
+        boolean powered = world.isBlockPowered(pos);
+        if (powered != this.powered)
         {
-            if (triggered)
+            long now = world.getTotalWorldTime();
+            extensionProgress = getProgress(now);
+            this.powered = powered;
+            if (state == State.EXTENDING || state == State.EXTRACTING)
             {
-                if (state == State.EXTRACTED || state == State.EXTRACTING)
+                moveStart = isFrozen() ? -1 : now;
+                if (battery != null)
                 {
-                    this.isInWorkCycle = this.state == State.EXTRACTED;
-                    this.state = State.EXTENDING;
-                    this.animationTransition("moving");
-                }
-            }
-            else
-            {
-                if (state == State.EXTENDED || state == State.EXTENDING)
-                {
-                    this.state = State.EXTRACTING;
-                    this.animationTransition("moving");
+                    refresh(); // Arm stops or resumes
                 }
             }
+            TileTickScheduler.wake(this);
+        }
+    }
+
+    /**
+     * An FE-powered squeezer halts while it is powered by redstone.
+     */
+    private boolean isFrozen()
+    {
+        return battery != null && powered;
+    }
+
+    private int getProgress(long time)
+    {
+        if (moveStart < 0)
+        {
+            return extensionProgress;
+        }
+        else if (state == State.EXTENDING)
+        {
+            return (int) Math.min(100, extensionProgress + EXTENDING_UNIT_LENGTH * (time - moveStart));
         }
         else
         {
-            if (triggered)
+            return (int) Math.max(0, extensionProgress - EXTRACTING_UNIT_LENGTH * (time - moveStart));
+        }
+    }
+
+    /**
+     * @return Ticks needed by the current movement since its start
+     */
+    private int getMoveDuration()
+    {
+        if (state == State.EXTENDING)
+        {
+            return (100 - extensionProgress + EXTENDING_UNIT_LENGTH - 1) / EXTENDING_UNIT_LENGTH;
+        }
+        else
+        {
+            return (extensionProgress + EXTRACTING_UNIT_LENGTH - 1) / EXTRACTING_UNIT_LENGTH;
+        }
+    }
+
+    private void startMoving(State state, long now)
+    {
+        this.extensionProgress = getProgress(now);
+        this.state = state;
+        this.moveStart = isFrozen() ? -1 : now;
+    }
+
+    /**
+     * Only ticks on server side, when the arm finishes moving or when something
+     * it waits for changes: redstone signal, energy or the basin below.
+     */
+    @Override
+    public void update()
+    {
+        if (world.isRemote)
+        {
+            TileTickScheduler.sleep(this);
+            return;
+        }
+        long now = world.getTotalWorldTime();
+        State lastState = this.state;
+        if (moveStart >= 0)
+        {
+            int progress = getProgress(now);
+            if (state == State.EXTENDING && progress >= 100)
             {
-                if ((state == State.EXTRACTED || state == State.EXTENDING) && battery.getEnergyStored() < CuisineConfig.GENERAL.squeezerUsesFE)
-                {
-                    return;
-                }
-                if (state == State.EXTENDED)
-                {
-                    this.state = State.EXTRACTING;
-                    this.animationTransition("moving");
-                }
-                else if (state == State.EXTRACTED)
-                {
-                    TileEntity tile = world.getTileEntity(pos.down());
-                    if (tile instanceof TileBasin)
-                    {
-                        TileBasin tileBasin = (TileBasin) tile;
-                        tileBasin.process(Processing.SQUEEZING, tileBasin.stacks.getStackInSlot(0), true);
-                        if (tileBasin.squeezingFailed)
-                        {
-                            return;
-                        }
-                        this.isInWorkCycle = true;
-                        this.state = State.EXTENDING;
-                        this.animationTransition("moving");
-                    }
-                    else
-                    {
-                        return;
-                    }
-                }
+                extensionProgress = 100;
+                moveStart = -1;
+                state = State.EXTENDED;
+                world.playSound(null, pos, SoundEvents.BLOCK_PISTON_EXTEND, SoundCategory.BLOCKS, 0.5F, world.rand.nextFloat() / 4 + .6F);
             }
-            else
+            else if (state == State.EXTRACTING && progress <= 0)
             {
-                return;
+                extensionProgress = 0;
+                moveStart = -1;
+                state = State.EXTRACTED;
+                world.playSound(null, pos, SoundEvents.BLOCK_PISTON_CONTRACT, SoundCategory.BLOCKS, 0.5F, world.rand.nextFloat() / 4 + 0.6F);
             }
         }
 
-        if (this.state == State.EXTENDING)
+        if (this.state == State.EXTENDED && this.isInWorkCycle)
         {
-            extensionProgress += EXTENDING_UNIT_LENGTH;
-            if (extensionProgress >= 100)
+            this.isInWorkCycle = false;
+            TileEntity tile = this.world.getTileEntity(this.pos.down());
+            if (tile instanceof TileBasin)
             {
-                extensionProgress = 100;
-                this.state = State.EXTENDED;
-                if (!world.isRemote)
+                TileBasin basin = (TileBasin) tile;
+                basin.process(Processing.SQUEEZING, basin.stacks.getStackInSlot(0), false);
+                if (battery != null)
                 {
-                    world.playSound(null, pos, SoundEvents.BLOCK_PISTON_EXTEND, SoundCategory.BLOCKS, 0.5F, world.rand.nextFloat() / 4 + .6F);
+                    battery.setEnergy(battery.getEnergyStored() - CuisineConfig.GENERAL.squeezerUsesFE);
                 }
             }
         }
-        else if (this.state == State.EXTRACTING)
+
+        if (battery == null)
         {
-            extensionProgress -= EXTRACTING_UNIT_LENGTH;
-            if (extensionProgress <= 0)
+            if (powered)
             {
-                extensionProgress = 0;
-                if (world.isRemote)
+                if (state == State.EXTRACTED || state == State.EXTRACTING)
                 {
-                    if (!"extracted".equals(this.stateMachine.currentState()))
-                    {
-                        this.animationTransition("extracted");
-                    }
+                    this.isInWorkCycle = this.state == State.EXTRACTED;
+                    startMoving(State.EXTENDING, now);
                 }
-                else
+            }
+            else
+            {
+                if (state == State.EXTENDED || state == State.EXTENDING)
                 {
-                    world.playSound(null, pos, SoundEvents.BLOCK_PISTON_CONTRACT, SoundCategory.BLOCKS, 0.5F, world.rand.nextFloat() / 4 + 0.6F);
+                    startMoving(State.EXTRACTING, now);
                 }
-                this.state = State.EXTRACTED;
             }
         }
-
-        if (this.state == State.EXTENDED && this.isInWorkCycle)
+        else if (!powered)
         {
-            this.isInWorkCycle = false;
-            if (!world.isRemote)
+            if (state == State.EXTENDED)
             {
-                TileEntity tile = this.world.getTileEntity(this.pos.down());
+                startMoving(State.EXTRACTING, now);
+            }
+            else if (state == State.EXTRACTED && battery.getEnergyStored() >= CuisineConfig.GENERAL.squeezerUsesFE)
+            {
+                TileEntity tile = world.getTileEntity(pos.down());
                 if (tile instanceof TileBasin)
                 {
-                    TileBasin basin = (TileBasin) tile;
-                    basin.process(Processing.SQUEEZING, basin.stacks.getStackInSlot(0), false);
-                    if (battery != null)
+                    TileBasin tileBasin = (TileBasin) tile;
+                    tileBasin.process(Processing.SQUEEZING, tileBasin.stacks.getStackInSlot(0), true);
+                    if (!tileBasin.squeezingFailed)
                     {
-                        battery.setEnergy(battery.getEnergyStored() - CuisineConfig.GENERAL.squeezerUsesFE);
+                        this.isInWorkCycle = true;
+                        startMoving(State.EXTENDING, now);
                     }
                 }
             }
         }
 
-        this.updateOffset();
+        if (this.state != lastState)
+        {
+            refresh();
+        }
+        if (moveStart >= 0)
+        {
+            TileTickScheduler.sleepUntil(this, moveStart + getMoveDuration());
+        }
+        else
+        {
+            TileTickScheduler.sleep(this);
+        }
     }
 
-    private void animationTransition(String newStateName)
+    /**
+     * Offset of the arm used by animation, interpolated between ticks.
+     */
+    private float getRenderOffset()
     {
-        if (this.world.isRemote)
+        float progress = extensionProgress;
+        if (moveStart >= 0 && world != null)
         {
-            this.stateMachine.transition(newStateName);
+            float elapsed = world.getTotalWorldTime() - moveStart + Animation.getPartialTickTime();
+            if (state == State.EXTENDING)
+            {
+                progress = Math.min(100, extensionProgress + EXTENDING_UNIT_LENGTH * elapsed);
+            }
+            else
+            {
+                progress = Math.max(0, extensionProgress - EXTRACTING_UNIT_LENGTH * elapsed);
+            }
         }
+        return progress / 100F * OFFSET_LIMIT;
     }
 
-    private void updateOffset()
+    private void updateAnimation()
     {
-        if (this.world.isRemote)
+        if (this.world != null && this.world.isRemote)
         {
-            this.extensionOffset.setValue((extensionProgress + Animation.getPartialTickTime()) / 100F * OFFSET_LIMIT);
+            String target = this.state == State.EXTRACTED ? "extracted" : "moving";
+            if (!target.equals(this.stateMachine.currentState()))
+            {
+                this.stateMachine.transition(target);
+            }
         }
     }
 
@@ -231,6 +341,7 @@ public class TileSqueezer extends TileBase implements ITickable
         this.extensionProgress = compound.getInteger("Extension");
         this.state = State.values()[compound.getInteger("State")];
         this.isInWorkCycle = compound.getBoolean("WorkCycle");
+        this.moveStart = compound.hasKey("MoveStart", Tag.LONG) ? compound.getLong("MoveStart") : -1;
         /*
          * You might want to ask why we don't do this in onLoad. The cruel fact is that,
          * TileEntity.handleUpdateTag is called after TileEntity.onLoad, where we get
@@ -239,17 +350,7 @@ public class TileSqueezer extends TileBase implements ITickable
          * loaded and the chunk data are synced over).
          * See TileMill.readFromNBT for a similar example.
          */
-        if (this.world != null && this.world.isRemote)
-        {
-            if (this.state != State.EXTRACTED)
-            {
-                this.updateOffset();
-                if (!"moving".equals(this.stateMachine.currentState()))
-                {
-                    this.stateMachine.transition("moving");
-                }
-            }
-        }
+        this.updateAnimation();
     }
 
     @Nonnull
@@ -263,6 +364,10 @@ public class TileSqueezer extends TileBase implements ITickable
         compound.setInteger("Extension", this.extensionProgress);
         compound.setInteger("State", this.state.ordinal());
         compound.setBoolean("WorkCycle", this.isInWorkCycle);
+        if (this.moveStart >= 0)
+        {
+            compound.setLong("MoveStart", this.moveStart);
+        }
         return super.writeToNBT(compound);
     }
 
@@ -275,6 +380,8 @@ public class TileSqueezer extends TileBase implements ITickable
         }
         this.extensionProgress = data.getInteger("Extension");
         this.state = State.values()[data.getInteger("State")];
+        this.moveStart = data.hasKey("MoveStart", Tag.LONG) ? data.getLong("MoveStart") : -1;
+        this.updateAnimation();
     }
 
     @Nonnull
@@ -287,6 +394,10 @@ public class TileSqueezer extends TileBase implements ITickable
         }
         data.setInteger("Extension", this.extensionProgress);
         data.setInteger("State", this.state.ordinal());
+        if (this.moveStart >= 0)
+        {
+            data.setLong("MoveStart", this.moveStart);
+        }
         return data;
     }
 
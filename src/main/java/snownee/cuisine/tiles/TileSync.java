@@ -0,0 +1,124 @@
+package snownee.cuisine.tiles;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.google.common.collect.Sets;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import snownee.cuisine.Cuisine;
+
+/**
+ * Keeps track of which groups of fields of a tile have changed since its last
+ * update packet, so that the packet only needs to carry those groups. Each
+ * group is a bit chosen by the tile.
+ * <p>
+ * Changes are not sent right away: a tile marked any number of times within
+ * a world tick gets a single block update at the end of that tick, and the
+ * update packet is then built from all groups marked so far. When the block
+ * is updated for another reason while nothing is marked, e.g. its state
+ * changes, {@link #poll()} asks for every group, so the client never misses
+ * fields that have been changed without marking.
+ * <p>
+ * Neighbors are not notified of the update, as vanilla containers do not do
+ * that either; comparators are taken care of by {@link ComparatorLevel}.
+ *
+ * 记录方块实体中哪些字段组发生了变化，同步时只发送这些组；同一 tick 内的多次刷新合并为一次更新。
+ */
+@Mod.EventBusSubscriber(modid = Cuisine.MODID)
+public final class TileSync
+{
+    public static final int ALL = -1;
+
+    private static final Map<World, Set<TileEntity>> PENDING = new WeakHashMap<>();
+
+    private final TileEntity tile;
+    private int dirty;
+
+    public TileSync(TileEntity tile)
+    {
+        this.tile = tile;
+    }
+
+    /**
+     * Mark given groups as changed, and send them to clients at the end of
+     * current world tick. Does nothing on client side.
+     */
+    public void mark(int groups)
+    {
+        World world = tile.getWorld();
+        if (world != null && !world.isRemote)
+        {
+            dirty |= groups;
+            schedule(tile);
+        }
+    }
+
+    /**
+     * Called when writing the update packet.
+     *
+     * @return The groups to be written, which are forgotten afterwards, or
+     *         {@link #ALL} if none has been marked
+     */
+    public int poll()
+    {
+        int groups = dirty == 0 ? ALL : dirty;
+        dirty = 0;
+        return groups;
+    }
+
+    /**
+     * Send an update packet of given tile at the end of current world tick,
+     * unless it has already been scheduled. Tiles that do not split their
+     * fields into groups may call this instead of refreshing right away.
+     */
+    public static void schedule(TileEntity tile)
+    {
+        World world = tile.getWorld();
+        if (world == null || world.isRemote)
+        {
+            return;
+        }
+        synchronized (PENDING)
+        {
+            PENDING.computeIfAbsent(world, k -> Sets.newIdentityHashSet()).add(tile);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (event.phase != TickEvent.Phase.END || event.world.isRemote)
+        {
+            return;
+        }
+        World world = event.world;
+        TileEntity[] tiles;
+        synchronized (PENDING)
+        {
+            Set<TileEntity> pending = PENDING.get(world);
+            if (pending == null || pending.isEmpty())
+            {
+                return;
+            }
+            tiles = pending.toArray(new TileEntity[0]);
+            pending.clear();
+        }
+        for (TileEntity tile : tiles)
+        {
+            if (tile.isInvalid() || tile.getWorld() != world || !world.isBlockLoaded(tile.getPos()))
+            {
+                continue;
+            }
+            IBlockState state = world.getBlockState(tile.getPos());
+            world.markChunkDirty(tile.getPos(), tile);
+            world.notifyBlockUpdate(tile.getPos(), state, state, 2);
+        }
+    }
+}
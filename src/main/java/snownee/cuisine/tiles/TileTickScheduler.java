@@ -0,0 +1,258 @@
+package snownee.cuisine.tiles;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import snownee.cuisine.Cuisine;
+
+/**
+ * Takes ticking tiles that have nothing to do off the ticking list of their
+ * world, and puts them back once they are woken up.
+ * <p>
+ * The ticking list cannot be modified while the world is iterating it, so
+ * requests are queued and applied at the end of each world tick. Tiles
+ * must call {@link #forget} when they are unloaded or invalidated, so that
+ * they are neither kept alive nor woken again.
+ * <p>
+ * Tiles that are only waiting for a timer can use {@link #sleepUntil} so that
+ * they are woken at the deadline, and catch up with the elapsed ticks then.
+ *
+ * 将无事可做的 TileEntity 移出所在世界的 tick 列表，被唤醒后再放回。
+ */
+@Mod.EventBusSubscriber(modid = Cuisine.MODID)
+public final class TileTickScheduler
+{
+    private static final Map<World, State> STATES = new WeakHashMap<>();
+
+    private TileTickScheduler()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    /**
+     * Stop ticking given tile from the next tick on, unless it is woken before.
+     */
+    public static void sleep(TileEntity tile)
+    {
+        World world = tile.getWorld();
+        if (world == null)
+        {
+            return;
+        }
+        synchronized (STATES)
+        {
+            State state = STATES.computeIfAbsent(world, k -> new State());
+            state.cancelDeadline(tile);
+            if (!state.toWake.remove(tile) && !state.asleep.contains(tile))
+            {
+                state.toSleep.add(tile);
+            }
+        }
+    }
+
+    /**
+     * Stop ticking given tile, and tick it again in the world tick of which
+     * {@link World#getTotalWorldTime()} equals the given deadline. An earlier
+     * scheduled deadline of the tile is replaced. {@link #wake} still wakes
+     * the tile immediately.
+     */
+    public static void sleepUntil(TileEntity tile, long deadline)
+    {
+        World world = tile.getWorld();
+        if (world == null)
+        {
+            return;
+        }
+        synchronized (STATES)
+        {
+            State state = STATES.computeIfAbsent(world, k -> new State());
+            state.cancelDeadline(tile);
+            state.deadlineOf.put(tile, deadline);
+            state.deadlines.computeIfAbsent(deadline, k -> Sets.newIdentityHashSet()).add(tile);
+            if (!state.toWake.remove(tile) && !state.asleep.contains(tile))
+            {
+                state.toSleep.add(tile);
+            }
+        }
+    }
+
+    /**
+     * Make sure given tile keeps ticking. It is safe to call this on tiles
+     * that are awake.
+     */
+    public static void wake(TileEntity tile)
+    {
+        World world = tile.getWorld();
+        if (world == null)
+        {
+            return;
+        }
+        synchronized (STATES)
+        {
+            State state = STATES.get(world);
+            if (state != null)
+            {
+                state.cancelDeadline(tile);
+                state.wake(tile);
+            }
+        }
+    }
+
+    /**
+     * Drop every request and deadline of given tile. Called when the tile is
+     * unloaded or invalidated; a tile asleep is not on the ticking list, so it
+     * just stays off it.
+     */
+    public static void forget(TileEntity tile)
+    {
+        World world = tile.getWorld();
+        if (world == null)
+        {
+            return;
+        }
+        synchronized (STATES)
+        {
+            State state = STATES.get(world);
+            if (state != null)
+            {
+                state.cancelDeadline(tile);
+                state.toSleep.remove(tile);
+                state.toWake.remove(tile);
+                state.asleep.remove(tile);
+            }
+        }
+    }
+
+    public static boolean isAsleep(TileEntity tile)
+    {
+        synchronized (STATES)
+        {
+            State state = STATES.get(tile.getWorld());
+            return state != null && state.asleep.contains(tile) && !state.toWake.contains(tile);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END)
+        {
+            process(event.world);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        synchronized (STATES)
+        {
+            STATES.remove(event.getWorld());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END)
+        {
+            World[] worlds;
+            synchronized (STATES)
+            {
+                worlds = STATES.keySet().stream().filter(w -> w.isRemote).toArray(World[]::new);
+            }
+            for (World world : worlds)
+            {
+                process(world);
+            }
+        }
+    }
+
+    private static void process(World world)
+    {
+        synchronized (STATES)
+        {
+            State state = STATES.get(world);
+            if (state == null)
+            {
+                return;
+            }
+            // Tiles woken here tick in the next world tick
+            long next = world.getTotalWorldTime() + 1;
+            Iterator<Map.Entry<Long, Set<TileEntity>>> itr = state.deadlines.entrySet().iterator();
+            while (itr.hasNext())
+            {
+                Map.Entry<Long, Set<TileEntity>> entry = itr.next();
+                if (entry.getKey() > next)
+                {
+                    break;
+                }
+                for (TileEntity tile : entry.getValue())
+                {
+                    state.deadlineOf.remove(tile);
+                    state.wake(tile);
+                }
+                itr.remove();
+            }
+            if (!state.toSleep.isEmpty())
+            {
+                world.tickableTileEntities.removeAll(state.toSleep);
+                state.asleep.addAll(state.toSleep);
+                state.toSleep.clear();
+            }
+            for (TileEntity tile : state.toWake)
+            {
+                state.asleep.remove(tile);
+                // The chunk may have been unloaded and loaded again with a new tile
+                if (!tile.isInvalid() && tile.getWorld() == world && world.isBlockLoaded(tile.getPos()) && world.getTileEntity(tile.getPos()) == tile)
+                {
+                    world.tickableTileEntities.add(tile);
+                }
+            }
+            state.toWake.clear();
+        }
+    }
+
+    private static final class State
+    {
+        final Set<TileEntity> toSleep = Sets.newIdentityHashSet();
+        final Set<TileEntity> toWake = Sets.newIdentityHashSet();
+        final Set<TileEntity> asleep = Collections.newSetFromMap(new WeakHashMap<>());
+        final TreeMap<Long, Set<TileEntity>> deadlines = new TreeMap<>();
+        final Map<TileEntity, Long> deadlineOf = Maps.newIdentityHashMap();
+
+        void wake(TileEntity tile)
+        {
+            if (!toSleep.remove(tile) && asleep.contains(tile))
+            {
+                toWake.add(tile);
+            }
+        }
+
+        void cancelDeadline(TileEntity tile)
+        {
+            Long deadline = deadlineOf.remove(tile);
+            if (deadline != null)
+            {
+                Set<TileEntity> tiles = deadlines.get(deadline);
+                tiles.remove(tile);
+                if (tiles.isEmpty())
+                {
+                    deadlines.remove(deadline);
+                }
+            }
+        }
+    }
+}
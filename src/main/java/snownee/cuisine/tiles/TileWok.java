@@ -1,6 +1,7 @@
 package snownee.cuisine.tiles;
 
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.init.SoundEvents;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTBase;
@@ -9,10 +10,13 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.EnumParticleTypes;
+import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.ItemHandlerHelper;
 import snownee.cuisine.Cuisine;
 import snownee.cuisine.CuisineRegistry;
@@ -23,7 +27,7 @@ import snownee.cuisine.internal.CuisinePersistenceCenter;
 import snownee.cuisine.internal.CuisineSharedSecrets;
 import snownee.cuisine.internal.food.Dish;
 import snownee.cuisine.items.ItemSpiceBottle;
-import snownee.cuisine.network.PacketCustomEvent;
+import snownee.cuisine.network.PacketDispatcher;
 import snownee.cuisine.util.I18nUtil;
 import snownee.kiwi.network.NetworkChannel;
 
@@ -49,7 +53,6 @@ public class TileWok extends TileFirePit implements CookingVessel
     static
     {
         NetworkChannel.INSTANCE.register(PacketIncrementalWokUpdate.class);
-        NetworkChannel.INSTANCE.register(PacketWokSeasoningsUpdate.class);
     }
 
     private Status status = Status.IDLE;
@@ -60,6 +63,20 @@ public class TileWok extends TileFirePit implements CookingVessel
     @Nullable
     public SeasoningInfo seasoningInfo;
     private boolean shouldRefresh = false;
+    /**
+     * Changes made during current tick that are not yet sent to clients.
+     */
+    @Nullable
+    private transient PacketIncrementalWokUpdate pendingUpdate;
+    private final transient Heating heating = new Heating(heatHandler);
+    /**
+     * Offset of heating passes, so that woks don't all heat in the same tick.
+     */
+    private transient int heatingPhase = -1;
+    /**
+     * Visual bands of ingredient doneness last sent to clients.
+     */
+    private transient int[] sentBands = new int[0];
 
     @Override
     public void update()
@@ -67,10 +84,10 @@ public class TileWok extends TileFirePit implements CookingVessel
         super.update();
         if (!world.isRemote && status == Status.WORKING)
         {
-            if (builder != null && heatHandler.getHeatPower() > 0 && this.world.getTotalWorldTime() % 20 == 0)
+            if (builder != null && heatHandler.getHeatPower() > 0 && isHeatingTick())
             {
-                builder.apply(new Heating(heatHandler), this);
-                if (!builder.getIngredients().isEmpty())
+                builder.apply(heating, this);
+                if (updateSentBands(builder.getIngredients()))
                 {
                     requiresRefresh();
                 }
@@ -81,6 +98,62 @@ public class TileWok extends TileFirePit implements CookingVessel
                 shouldRefresh = false;
             }
         }
+        if (pendingUpdate != null)
+        {
+            PacketDispatcher.sendToWatching(pendingUpdate, world, pos);
+            pendingUpdate = null;
+        }
+    }
+
+    private boolean isHeatingTick()
+    {
+        if (heatingPhase < 0)
+        {
+            heatingPhase = (int) Math.floorMod(MathHelper.getPositionRandom(pos), 20L);
+        }
+        return (world.getTotalWorldTime() + heatingPhase) % 20 == 0;
+    }
+
+    /**
+     * Doneness is rendered as a color gradient, so clients only need an update
+     * when it moves into another band of 10. Bands also align with all doneness
+     * thresholds in use (100, 110, 130, and 150 where OVERCOOKED is gained).
+     *
+     * @return true if any band changed since last call
+     */
+    private boolean updateSentBands(List<Ingredient> ingredients)
+    {
+        boolean changed = sentBands.length != ingredients.size();
+        if (changed)
+        {
+            sentBands = new int[ingredients.size()];
+        }
+        for (int i = 0; i < sentBands.length; i++)
+        {
+            int band = ingredients.get(i).getDoneness() / 10;
+            if (sentBands[i] != band)
+            {
+                sentBands[i] = band;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private PacketIncrementalWokUpdate pendingUpdate()
+    {
+        if (pendingUpdate == null)
+        {
+            pendingUpdate = new PacketIncrementalWokUpdate(pos);
+            wake();
+        }
+        return pendingUpdate;
+    }
+
+    @Override
+    protected boolean isIdle()
+    {
+        return super.isIdle() && pendingUpdate == null && !shouldRefresh;
     }
 
     public Status getStatus()
@@ -90,12 +163,13 @@ public class TileWok extends TileFirePit implements CookingVessel
 
     public void onActivated(EntityPlayerMP playerIn, EnumHand hand, EnumFacing facing)
     {
+        wake();
         ItemStack heldThing = playerIn.getHeldItem(hand);
         switch (status)
         {
         case IDLE:
         {
-            boolean isIngredient = heldThing.getItem() instanceof ItemSpiceBottle || CulinaryHub.API_INSTANCE.findIngredient(heldThing) != null;
+            boolean isIngredient = heldThing.getItem() instanceof ItemSpiceBottle || CulinaryHub.API_INSTANCE.isKnownIngredient(heldThing);
             if (isIngredient || FuelHeatHandler.isFuel(heldThing, true))
             {
                 if (isIngredient)
@@ -163,7 +237,7 @@ public class TileWok extends TileFirePit implements CookingVessel
                 {
                     SkillUtil.increasePoint(playerIn, CulinarySkillPoint.PROFICIENCY, 1);
                 }
-                NetworkChannel.INSTANCE.sendToDimension(new PacketCustomEvent(3, this.getPos().getX(), this.getPos().getY(), this.getPos().getZ()), this.getWorld().provider.getDimension());
+                pendingUpdate().addAction();
             }
             break;
         }
@@ -216,7 +290,7 @@ public class TileWok extends TileFirePit implements CookingVessel
                     heldThing.shrink(1);
                 }
                 this.ingredientsForRendering.put(ingredient, newStack);
-                NetworkChannel.INSTANCE.sendToAll(new PacketIncrementalWokUpdate(this.getPos(), ingredient, newStack));
+                pendingUpdate().addIngredient(ingredient, newStack);
                 return true;
             }
             else
@@ -308,7 +382,7 @@ public class TileWok extends TileFirePit implements CookingVessel
         }
         if (world != null && !world.isRemote)
         {
-            NetworkChannel.INSTANCE.sendToAll(new PacketWokSeasoningsUpdate(this.getPos(), seasoningInfo));
+            pendingUpdate().setSeasoningInfo(seasoningInfo);
         }
     }
 
@@ -494,13 +568,45 @@ public class TileWok extends TileFirePit implements CookingVessel
         this.completedDish = null;
         this.status = Status.IDLE;
         this.ingredientsForRendering.clear();
-        NetworkChannel.INSTANCE.sendToAll(new PacketIncrementalWokUpdate(this.getPos(), null, ItemStack.EMPTY));
+        pendingUpdate().reset();
 
         return Optional.of(stack);
     }
 
+    @SideOnly(Side.CLIENT)
+    void playIngredientAddedEffect()
+    {
+        for (int k = 0; k < 4; ++k)
+        {
+            double x = pos.getX() + 0.5D + world.rand.nextGaussian() * 0.2D;
+            double z = pos.getZ() + world.rand.nextGaussian() * 0.2D;
+            world.spawnParticle(EnumParticleTypes.EXPLOSION_NORMAL, x, pos.getY() + 0.25, z, 0D, 0.1D, 0D);
+        }
+        world.playSound(pos.getX() + 0.5D + world.rand.nextGaussian() * 0.2D, pos.getY() + 0.25, pos.getZ() + 0.5D + world.rand.nextGaussian() * 0.2D, SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS, 1F, 1F, true);
+    }
+
+    @SideOnly(Side.CLIENT)
+    public void playActionEffect()
+    {
+        // TODO Fine tuning on FX
+        ++actionCycle;
+        Random rand = world.rand;
+        int level = heatHandler.getLevel();
+        for (int k = 0; k < level * 2; ++k)
+        {
+            double x = pos.getX() + 0.5D + rand.nextGaussian() * 0.2D;
+            double z = pos.getZ() + 0.5D + rand.nextGaussian() * 0.2D;
+            world.spawnParticle(EnumParticleTypes.EXPLOSION_NORMAL, x, pos.getY() + 0.25, z, 0D, 0.1D, 0D);
+        }
+        if (level > 0)
+        {
+            world.playSound(pos.getX() + 0.5, pos.getY() + 0.25, pos.getZ() + 0.5, SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.PLAYERS, 0.4F + rand.nextFloat() * 0.2F * level, 0.7F + rand.nextFloat() * 0.1F * level, false);
+        }
+    }
+
     public void requiresRefresh()
     {
         shouldRefresh = true;
+        wake();
     }
 }
@@ -0,0 +1,125 @@
+package snownee.cuisine.world;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMaps;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import snownee.cuisine.Cuisine;
+
+/**
+ * Per dimension state of bamboo growth: when it last rained there, which
+ * decides whether mature bamboo may spread, and which chunk sections have
+ * recently tried to spread.
+ * <p>
+ * A chunk section tries spreading at most once every {@link #SPREAD_INTERVAL}
+ * ticks, whichever of its stalks gets the random tick, so that a large bamboo
+ * forest does not cost more than a few groves.
+ *
+ * 按维度保存的竹子生长状态：上次下雨的时间，以及各区块段最近一次尝试蔓延的时间。
+ */
+@Mod.EventBusSubscriber(modid = Cuisine.MODID)
+public class BambooGroves extends WorldSavedData
+{
+    private static final String NAME = Cuisine.MODID + "_bamboo";
+    /**
+     * How long after rain stops bamboo may spread
+     */
+    public static final long RAIN_WINDOW = 9000;
+    public static final long SPREAD_INTERVAL = 600;
+
+    private long lastRainTime = -12000;
+    private final Long2LongMap nextSpread = new Long2LongOpenHashMap();
+
+    public BambooGroves(String name)
+    {
+        super(name);
+    }
+
+    public static BambooGroves get(World world)
+    {
+        MapStorage storage = world.getPerWorldStorage();
+        BambooGroves data = (BambooGroves) storage.getOrLoadData(BambooGroves.class, NAME);
+        if (data == null)
+        {
+            data = new BambooGroves(NAME);
+            storage.setData(NAME, data);
+        }
+        return data;
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote && event.world.isRaining())
+        {
+            BambooGroves data = get(event.world);
+            data.lastRainTime = event.world.getTotalWorldTime();
+            data.markDirty();
+        }
+    }
+
+    /**
+     * @return true if it has rained in this dimension recently enough for
+     *         bamboo to spread
+     */
+    public boolean isAfterRain(World world)
+    {
+        if (!world.getGameRules().getBoolean("doWeatherCycle"))
+        {
+            return true;
+        }
+        long interval = world.getTotalWorldTime() - lastRainTime;
+        return interval > 0 && interval < RAIN_WINDOW;
+    }
+
+    /**
+     * Claim the spreading attempt of the chunk section at given position.
+     *
+     * @return false if the section has already tried spreading within
+     *         {@link #SPREAD_INTERVAL} ticks
+     */
+    public boolean tryClaimSpread(World world, BlockPos pos)
+    {
+        long now = world.getTotalWorldTime();
+        long section = new BlockPos(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4).toLong();
+        if (nextSpread.get(section) > now)
+        {
+            return false;
+        }
+        // Forget sections that are free again, before the map grows with every grove visited
+        if (nextSpread.size() >= 1024)
+        {
+            ObjectIterator<Long2LongMap.Entry> itr = Long2LongMaps.fastIterator(nextSpread);
+            while (itr.hasNext())
+            {
+                if (itr.next().getLongValue() <= now)
+                {
+                    itr.remove();
+                }
+            }
+        }
+        nextSpread.put(section, now + SPREAD_INTERVAL);
+        return true;
+    }
+
+    @Override
+    public void readFromNBT(NBTTagCompound nbt)
+    {
+        lastRainTime = nbt.getLong("LastRainTime");
+    }
+
+    @Override
+    public NBTTagCompound writeToNBT(NBTTagCompound compound)
+    {
+        compound.setLong("LastRainTime", lastRainTime);
+        return compound;
+    }
+}
@@ -0,0 +1,84 @@
+package snownee.cuisine.world.gen;
+
+import java.util.Arrays;
+
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeOcean;
+import net.minecraft.world.biome.BiomeSwamp;
+
+/**
+ * Which of Cuisine's decorations may be generated in each biome. The checks
+ * only depend on the biome, so they are done once per biome and remembered,
+ * rather than for every decorated chunk. The random rolls, such as the one
+ * against the biome temperature, are still done by each decorator.
+ *
+ * 记录各生物群系能否生成菜园、果树与竹林，避免每个区块都重新判断。
+ */
+public final class BiomeEligibility
+{
+    public static final int GARDEN = 1;
+    public static final int FRUIT_TREES = 2;
+    public static final int BAMBOO = 4;
+
+    private static final byte UNKNOWN = -1;
+    private static final byte[] FLAGS = new byte[256];
+
+    static
+    {
+        Arrays.fill(FLAGS, UNKNOWN);
+    }
+
+    private BiomeEligibility()
+    {
+        throw new UnsupportedOperationException("No instance for you");
+    }
+
+    public static boolean test(Biome biome, int decoration)
+    {
+        int id = Biome.getIdForBiome(biome);
+        if (id < 0 || id >= FLAGS.length)
+        {
+            return (compute(biome) & decoration) != 0;
+        }
+        byte flags = FLAGS[id];
+        if (flags == UNKNOWN)
+        {
+            // Racing threads compute the same value, no need to lock
+            FLAGS[id] = flags = compute(biome);
+        }
+        return (flags & decoration) != 0;
+    }
+
+    /**
+     * Forget all computed eligibility, since biome decorators may be changed
+     * by other mods or scripts. Called on server start.
+     */
+    public static void invalidate()
+    {
+        Arrays.fill(FLAGS, UNKNOWN);
+    }
+
+    private static byte compute(Biome biome)
+    {
+        int flags = 0;
+        boolean temperate = biome.canRain() && !biome.isSnowyBiome();
+        int flowers = biome.decorator.flowersPerChunk;
+        if (flowers == -999 && biome.getClass().getName().startsWith("biomesoplenty"))
+        {
+            flowers = 1;
+        }
+        if (temperate && flowers >= 1 && !(biome instanceof BiomeOcean))
+        {
+            flags |= GARDEN;
+        }
+        if (temperate && biome.decorator.treesPerChunk >= 2 && biome.decorator.treesPerChunk <= 10 && !(biome instanceof BiomeSwamp))
+        {
+            flags |= FRUIT_TREES;
+        }
+        if (biome.getBaseHeight() <= 0.4F && !biome.isSnowyBiome() && biome.getRainfall() >= 0.5F && !(biome instanceof BiomeOcean) && !(biome instanceof BiomeSwamp))
+        {
+            flags |= BAMBOO;
+        }
+        return (byte) flags;
+    }
+}
@@ -7,8 +7,6 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
-import net.minecraft.world.biome.BiomeOcean;
-import net.minecraft.world.biome.BiomeSwamp;
 import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -30,7 +28,7 @@ public class WorldGenBamboo
 
             Biome biome = worldIn.getBiome(position);
 
-            if (biome.getBaseHeight() > 0.4F || biome.isSnowyBiome() || biome.getRainfall() < 0.5F || biome instanceof BiomeOcean || biome instanceof BiomeSwamp || rand.nextInt(200) >= CuisineConfig.WORLD_GEN.bamboosGenRate || rand.nextDouble() > biome.getDefaultTemperature())
+            if (!BiomeEligibility.test(biome, BiomeEligibility.BAMBOO) || rand.nextInt(200) >= CuisineConfig.WORLD_GEN.bamboosGenRate || rand.nextDouble() > biome.getDefaultTemperature())
             {
                 return;
             }
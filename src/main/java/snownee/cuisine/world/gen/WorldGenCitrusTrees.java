@@ -6,7 +6,6 @@ import java.util.Random;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
-import net.minecraft.world.biome.BiomeSwamp;
 import net.minecraft.world.gen.feature.WorldGenerator;
 import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -28,7 +27,7 @@ public class WorldGenCitrusTrees
             Random rand = event.getRand();
             BlockPos pos = event.getChunkPos().getBlock(rand.nextInt(16) + 8, 0, rand.nextInt(16) + 8);
             Biome biome = world.getBiome(pos);
-            if (!biome.canRain() || biome.isSnowyBiome() || biome.decorator.treesPerChunk < 2 || biome.decorator.treesPerChunk > 10 || biome instanceof BiomeSwamp || rand.nextDouble() > biome.getDefaultTemperature())
+            if (!BiomeEligibility.test(biome, BiomeEligibility.FRUIT_TREES) || rand.nextDouble() > biome.getDefaultTemperature())
             {
                 return;
             }
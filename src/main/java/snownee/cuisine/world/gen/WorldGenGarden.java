@@ -17,7 +17,6 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
-import net.minecraft.world.biome.BiomeOcean;
 import net.minecraftforge.common.EnumPlantType;
 import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -50,12 +49,7 @@ public class WorldGenGarden
 
             Biome biome = worldIn.getBiome(position);
 
-            int flowers = biome.decorator.flowersPerChunk;
-            if (flowers == -999 && biome.getClass().getName().startsWith("biomesoplenty"))
-            {
-                flowers = 1;
-            }
-            if (!biome.canRain() || biome.isSnowyBiome() || biome.decorator.flowersPerChunk < 1 || biome instanceof BiomeOcean || rand.nextDouble() > biome.getDefaultTemperature() || rand.nextInt(200) >= CuisineConfig.WORLD_GEN.cropsGenRate)
+            if (!BiomeEligibility.test(biome, BiomeEligibility.GARDEN) || rand.nextDouble() > biome.getDefaultTemperature() || rand.nextInt(200) >= CuisineConfig.WORLD_GEN.cropsGenRate)
             {
                 return;
             }
@@ -7,6 +7,7 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fluids.IFluidBlock;
 
 public final class WorldGenHelper
@@ -20,9 +21,11 @@ public final class WorldGenHelper
     @Nullable
     public static BlockPos.MutableBlockPos findGround(World world, BlockPos pos, boolean ignoreLeaves, boolean stopOnFluid, boolean useWorldHeight, int offset)
     {
+        // The whole column is in one chunk, read it directly instead of looking the chunk up for each block
+        Chunk chunk = world.getChunk(pos);
         if (useWorldHeight)
         {
-            pos = world.getHeight(pos);
+            pos = chunk.getPrecipitationHeight(pos);
         }
         BlockPos.MutableBlockPos position = new BlockPos.MutableBlockPos(pos);
         if (position.getY() > 0)
@@ -30,7 +33,7 @@ public final class WorldGenHelper
             int yOrigin = position.getY();
             do
             {
-                IBlockState state = world.getBlockState(position);
+                IBlockState state = chunk.getBlockState(position);
                 if (stopOnFluid && (state.getBlock() instanceof BlockLiquid || state.getBlock() instanceof IFluidBlock))
                 {
                     return position.move(EnumFacing.UP);